@@ -1,5 +1,6 @@
 package dev.hyzoon.oauth_test;
 
+import dev.hyzoon.oauth_test.user.UserImportCommand;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
@@ -7,7 +8,9 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 public class OauthTestApplication {
 
 	public static void main(String[] args) {
-		SpringApplication.run(OauthTestApplication.class, args);
+		SpringApplication application = new SpringApplication(OauthTestApplication.class);
+		UserImportCommand.configure(application, args);
+		application.run(args);
 	}
 
 }
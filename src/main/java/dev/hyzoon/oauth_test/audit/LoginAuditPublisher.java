@@ -0,0 +1,53 @@
+package dev.hyzoon.oauth_test.audit;
+
+import dev.hyzoon.oauth_test.audit.domain.LoginEventType;
+import dev.hyzoon.oauth_test.audit.dto.ClientInfoDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// 로그인 / 토큰 재발급 이벤트를 Redis Stream 에 추가 (XADD, O(1))
+// MySQL 저장은 LoginAuditWorker 가 비동기로 batch 처리하므로 로그인 흐름에 DB 쓰기가 추가되지 않음
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LoginAuditPublisher {
+
+    public static final String STREAM_KEY = "login_audit";
+    private static final long MAX_STREAM_LENGTH = 1_000_000; // worker 장애 시에도 Redis 메모리가 무한히 늘어나지 않도록
+    private static final int MAX_USER_AGENT_LENGTH = 512;
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public void publish(LoginEventType eventType, String email, String provider, ClientInfoDto client) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put("type", eventType.name());
+        fields.put("email", email);
+        fields.put("occurredAt", String.valueOf(System.currentTimeMillis()));
+        if (provider != null) {
+            fields.put("provider", provider);
+        }
+        if (client.getIp() != null) {
+            fields.put("ip", client.getIp());
+        }
+        String userAgent = client.getUserAgent();
+        if (userAgent != null) {
+            fields.put("userAgent", userAgent.length() > MAX_USER_AGENT_LENGTH ? userAgent.substring(0, MAX_USER_AGENT_LENGTH) : userAgent);
+        }
+
+        // 감사 로그 기록 실패가 로그인 자체를 실패시키지 않도록 예외는 로그만 남김
+        try {
+            MapRecord<String, String, String> record = StreamRecords.newRecord().in(STREAM_KEY).ofMap(fields);
+            stringRedisTemplate.opsForStream().add(record, XAddOptions.maxlen(MAX_STREAM_LENGTH).approximateTrimming(true));
+        } catch (Exception e) {
+            log.warn("Failed to publish login audit event for {} - {}", email, e.getMessage());
+        }
+    }
+}
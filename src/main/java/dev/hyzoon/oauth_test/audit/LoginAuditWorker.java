@@ -0,0 +1,366 @@
+package dev.hyzoon.oauth_test.audit;
+
+import dev.hyzoon.oauth_test.audit.domain.LoginEventType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.*;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+// login_audit Stream 을 consumer group 으로 읽어 MySQL 에 batch 로 저장하는 worker
+// - at-least-once: DB 저장이 끝난 뒤에 XACK 하고, ack 되지 않은 (pending) 이벤트는 다음 drain 에서 다시 처리
+//   container 교체 등으로 consumer 이름이 바뀌어도, 일정 시간 처리되지 않은 다른 consumer 의 pending 이벤트를 가져와 (XCLAIM) 처리
+// - idempotent: Stream record id 를 event_id (unique) 로 저장하고 INSERT IGNORE 사용,
+//   lastLoginAt 은 기존 값보다 최신인 경우에만 갱신하므로 같은 이벤트가 여러 번 처리되어도 결과가 같음
+// - poison record: 형식이 잘못되었거나 반복해서 저장에 실패하는 이벤트는 dead-letter Stream 으로 옮기고 ack 하여
+//   뒤따르는 이벤트의 처리를 막지 않도록
+@Slf4j
+@Component
+public class LoginAuditWorker {
+
+    public static final String DEAD_LETTER_STREAM_KEY = "login_audit_dead";
+    private static final String GROUP = "login_audit_writer";
+    private static final int BATCH_SIZE = 500;
+    private static final Duration CLAIM_MIN_IDLE = Duration.ofMinutes(1); // 이 시간 이상 ack 되지 않은 다른 consumer 의 이벤트를 가져옴
+    private static final long MAX_DELIVERIES = 5; // 이 횟수 이상 전달되었는데도 저장에 실패하면 dead-letter 처리
+    private static final long MAX_DEAD_LETTER_LENGTH = 100_000;
+    private static final int LAG_SCAN_LIMIT = 10_000; // XINFO GROUPS 의 lag 를 알 수 없을 때 직접 세는 최대 이벤트 수
+
+    private static final String INSERT_AUDIT_SQL =
+            "INSERT IGNORE INTO login_audit (event_id, email, event_type, provider, ip, user_agent, occurred_at) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE_LAST_LOGIN_SQL =
+            "UPDATE user SET last_login_at = ? WHERE email = ? AND (last_login_at IS NULL OR last_login_at < ?)";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final String consumerName;
+
+    private final AtomicLong pendingCount = new AtomicLong();
+    private final AtomicLong undeliveredCount = new AtomicLong();
+    private final Timer lagTimer;
+    private final Counter persistedCounter;
+    private final Counter deadLetteredCounter;
+    private volatile boolean groupCreated = false;
+
+    public LoginAuditWorker(StringRedisTemplate stringRedisTemplate,
+                            JdbcTemplate jdbcTemplate,
+                            TransactionTemplate transactionTemplate,
+                            MeterRegistry meterRegistry) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.consumerName = resolveConsumerName();
+
+        // 이벤트 발생부터 DB 저장까지 걸린 시간, ack 대기 중인 이벤트 수, 아직 group 에 전달되지 않은 이벤트 수,
+        // dead-letter 처리된 이벤트 수
+        // lag timer 는 저장된 이벤트만 기록하므로 worker 가 멈추면 갱신되지 않음 -> 적체는 undelivered gauge 로 확인
+        this.lagTimer = Timer.builder("auth.login.audit.lag").register(meterRegistry);
+        this.persistedCounter = Counter.builder("auth.login.audit.persisted").register(meterRegistry);
+        this.deadLetteredCounter = Counter.builder("auth.login.audit.dead.lettered").register(meterRegistry);
+        Gauge.builder("auth.login.audit.pending", pendingCount, AtomicLong::get).register(meterRegistry);
+        Gauge.builder("auth.login.audit.undelivered", undeliveredCount, AtomicLong::get).register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelay = 1000)
+    public void drain() {
+        try {
+            if (!groupCreated) {
+                // 아직 이벤트가 한 번도 발행되지 않은 경우
+                if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(LoginAuditPublisher.STREAM_KEY))) {
+                    return;
+                }
+                createGroup();
+            }
+
+            // 1. 사라진 consumer 의 오래된 pending 이벤트를 내 것으로 가져옴
+            claimIdleEntries();
+
+            // 2. 내 pending 이벤트 (재시작, 저장 실패, claim 한 이벤트) 를 처리
+            //    실패하여 pending 으로 남은 이벤트를 다시 읽지 않도록 마지막으로 읽은 id 이후부터 이어서 읽음
+            String cursor = "0";
+            List<MapRecord<String, String, String>> records;
+            while (!(records = read(ReadOffset.from(cursor))).isEmpty()) {
+                process(records);
+                cursor = records.get(records.size() - 1).getId().getValue();
+            }
+
+            // 3. 새 이벤트 처리 (배치가 가득 찬 동안 반복)
+            while (!(records = read(ReadOffset.lastConsumed())).isEmpty()) {
+                process(records);
+                if (records.size() < BATCH_SIZE) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Failed to drain login audit stream - {}", e.getMessage());
+        }
+
+        // DB 장애 등으로 처리에 실패한 경우에도 적체 상황을 알 수 있도록 항상 갱신
+        if (groupCreated) {
+            try {
+                updateBacklogMetrics();
+            } catch (Exception e) {
+                log.warn("Failed to update login audit backlog metrics - {}", e.getMessage());
+            }
+        }
+    }
+
+    private List<MapRecord<String, String, String>> read(ReadOffset readOffset) {
+        List<MapRecord<String, String, String>> records = stringRedisTemplate.<String, String>opsForStream().read(
+                Consumer.from(GROUP, consumerName),
+                StreamReadOptions.empty().count(BATCH_SIZE),
+                StreamOffset.create(LoginAuditPublisher.STREAM_KEY, readOffset));
+        return records == null ? List.of() : records;
+    }
+
+    // CLAIM_MIN_IDLE 이상 ack 되지 않은 다른 consumer 의 pending 이벤트를 가져옴 (XINFO CONSUMERS + XPENDING + XCLAIM)
+    // group 전체 XPENDING 의 앞부분만 보면 내 pending 이벤트가 많을 때 뒤에 있는 다른 consumer 의 이벤트를 보지 못하므로
+    // pending 이벤트가 있는 다른 consumer 별로 XPENDING 을 cursor 로 끝까지 확인
+    // XCLAIM 의 min-idle 조건으로 여러 worker 가 동시에 같은 이벤트를 가져가지 않음
+    private void claimIdleEntries() {
+        StreamOperations<String, String, String> streamOperations = stringRedisTemplate.opsForStream();
+        StreamInfo.XInfoConsumers consumers = streamOperations.consumers(LoginAuditPublisher.STREAM_KEY, GROUP);
+        if (consumers == null) {
+            return;
+        }
+
+        consumers.stream()
+                .filter(consumer -> !consumerName.equals(consumer.consumerName()))
+                .filter(consumer -> consumer.pendingCount() > 0)
+                .forEach(consumer -> claimIdleEntries(streamOperations, consumer.consumerName()));
+    }
+
+    private void claimIdleEntries(StreamOperations<String, String, String> streamOperations, String owner) {
+        Range<String> range = Range.unbounded();
+        int claimedCount = 0;
+        while (true) {
+            PendingMessages pendingMessages = streamOperations.pending(
+                    LoginAuditPublisher.STREAM_KEY, Consumer.from(GROUP, owner), range, BATCH_SIZE);
+            if (pendingMessages == null || pendingMessages.isEmpty()) {
+                break;
+            }
+
+            RecordId[] idleIds = pendingMessages.stream()
+                    .filter(message -> message.getElapsedTimeSinceLastDelivery().compareTo(CLAIM_MIN_IDLE) >= 0)
+                    .map(PendingMessage::getId)
+                    .toArray(RecordId[]::new);
+            if (idleIds.length > 0) {
+                List<MapRecord<String, String, String>> claimed = streamOperations.claim(
+                        LoginAuditPublisher.STREAM_KEY, GROUP, consumerName, CLAIM_MIN_IDLE, idleIds);
+                claimedCount += claimed == null ? 0 : claimed.size();
+            }
+            if (pendingMessages.size() < BATCH_SIZE) {
+                break;
+            }
+            // 마지막으로 확인한 id 다음부터 이어서 확인
+            range = Range.rightUnbounded(Range.Bound.inclusive(nextId(pendingMessages.get(pendingMessages.size() - 1).getId())));
+        }
+        if (claimedCount > 0) {
+            log.info("Claimed {} idle login audit events from consumer {}", claimedCount, owner);
+        }
+    }
+
+    // 형식이 잘못된 이벤트는 바로 dead-letter 처리하고 나머지는 batch 로 저장 후 ack
+    // batch 저장이 DB 장애가 아닌 이유로 실패하면 문제가 되는 이벤트를 찾기 위해 한 건씩 저장
+    private void process(List<MapRecord<String, String, String>> records) {
+        List<LoginAuditRow> rows = new ArrayList<>(records.size());
+        for (MapRecord<String, String, String> record : records) {
+            try {
+                rows.add(LoginAuditRow.from(record));
+            } catch (RuntimeException e) {
+                deadLetter(record, "malformed: " + e);
+            }
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        try {
+            persist(rows);
+            acknowledge(rows);
+        } catch (TransientDataAccessException | DataAccessResourceFailureException e) {
+            // DB 연결 장애 등은 모든 이벤트를 pending 으로 남기고 다음 drain 에서 재시도
+            throw e;
+        } catch (DataAccessException e) {
+            log.warn("Login audit batch failed, persisting events one by one - {}", e.getMessage());
+            for (LoginAuditRow row : rows) {
+                persistOne(row);
+            }
+        }
+    }
+
+    private void persistOne(LoginAuditRow row) {
+        try {
+            persist(List.of(row));
+            acknowledge(List.of(row));
+        } catch (TransientDataAccessException | DataAccessResourceFailureException e) {
+            throw e;
+        } catch (DataAccessException e) {
+            // 전달 횟수가 남아 있으면 pending 으로 두어 다음 drain 에서 재시도
+            if (deliveryCount(row.record()) >= MAX_DELIVERIES) {
+                deadLetter(row.record(), "persist failed: " + e.getMessage());
+            } else {
+                log.warn("Failed to persist login audit event {} - {}", row.record().getId(), e.getMessage());
+            }
+        }
+    }
+
+    private void persist(List<LoginAuditRow> rows) {
+        List<Object[]> audits = new ArrayList<>(rows.size());
+        Map<String, Long> lastLoginByEmail = new HashMap<>();
+        for (LoginAuditRow row : rows) {
+            audits.add(row.toInsertArgs());
+            lastLoginByEmail.merge(row.email(), row.occurredAt(), Math::max);
+        }
+
+        // 같은 사용자의 이벤트는 가장 최근 시각으로 한 번만 갱신
+        List<Object[]> lastLogins = new ArrayList<>(lastLoginByEmail.size());
+        lastLoginByEmail.forEach((email, occurredAt) -> {
+            Timestamp timestamp = new Timestamp(occurredAt);
+            lastLogins.add(new Object[]{timestamp, email, timestamp});
+        });
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(INSERT_AUDIT_SQL, audits);
+            jdbcTemplate.batchUpdate(UPDATE_LAST_LOGIN_SQL, lastLogins);
+        });
+    }
+
+    private void acknowledge(List<LoginAuditRow> rows) {
+        stringRedisTemplate.opsForStream().acknowledge(LoginAuditPublisher.STREAM_KEY, GROUP,
+                rows.stream().map(row -> row.record().getId()).toArray(RecordId[]::new));
+
+        long now = System.currentTimeMillis();
+        for (LoginAuditRow row : rows) {
+            lagTimer.record(Duration.ofMillis(Math.max(0, now - row.occurredAt())));
+        }
+        persistedCounter.increment(rows.size());
+    }
+
+    private long deliveryCount(MapRecord<String, String, String> record) {
+        String id = record.getId().getValue();
+        PendingMessages pendingMessages = stringRedisTemplate.opsForStream().pending(
+                LoginAuditPublisher.STREAM_KEY, Consumer.from(GROUP, consumerName), Range.closed(id, id), 1);
+        return pendingMessages == null || pendingMessages.isEmpty() ? 0 : pendingMessages.get(0).getTotalDeliveryCount();
+    }
+
+    // 원본 필드와 실패 사유를 dead-letter Stream 에 추가한 뒤 ack (XADD 가 실패하면 ack 하지 않으므로 유실되지 않음)
+    private void deadLetter(MapRecord<String, String, String> record, String reason) {
+        Map<String, String> fields = new HashMap<>(record.getValue());
+        fields.put("sourceId", record.getId().getValue());
+        fields.put("reason", reason);
+        stringRedisTemplate.opsForStream().add(
+                StreamRecords.newRecord().in(DEAD_LETTER_STREAM_KEY).ofMap(fields),
+                XAddOptions.maxlen(MAX_DEAD_LETTER_LENGTH).approximateTrimming(true));
+        stringRedisTemplate.opsForStream().acknowledge(LoginAuditPublisher.STREAM_KEY, GROUP, record.getId());
+
+        deadLetteredCounter.increment();
+        log.warn("Moved login audit event {} to {} - {}", record.getId(), DEAD_LETTER_STREAM_KEY, reason);
+    }
+
+    private void createGroup() {
+        try {
+            stringRedisTemplate.opsForStream().createGroup(LoginAuditPublisher.STREAM_KEY, ReadOffset.from("0"), GROUP);
+        } catch (Exception e) {
+            // 이미 group 이 존재하는 경우 (BUSYGROUP) 는 정상
+            if (!String.valueOf(e.getMessage()).contains("BUSYGROUP")
+                    && !(e.getCause() != null && String.valueOf(e.getCause().getMessage()).contains("BUSYGROUP"))) {
+                throw e;
+            }
+        }
+        groupCreated = true;
+    }
+
+    // pending: 전달되었지만 ack 되지 않은 이벤트 수 (XINFO GROUPS 의 pending)
+    // undelivered: 아직 group 에 전달되지 않은 이벤트 수 (XINFO GROUPS 의 lag, Redis 7+)
+    //   lag 를 알 수 없는 경우 (Redis 7 미만, 중간 이벤트가 XDEL 된 경우) last-delivered-id 이후 이벤트를 LAG_SCAN_LIMIT 까지 직접 셈
+    private void updateBacklogMetrics() {
+        StreamOperations<String, String, String> streamOperations = stringRedisTemplate.opsForStream();
+        StreamInfo.XInfoGroups groups = streamOperations.groups(LoginAuditPublisher.STREAM_KEY);
+        if (groups == null) {
+            return;
+        }
+        groups.stream()
+                .filter(group -> GROUP.equals(group.groupName()))
+                .findFirst()
+                .ifPresent(group -> {
+                    pendingCount.set(group.pendingCount());
+                    undeliveredCount.set(group.getRaw().get("lag") instanceof Number lag
+                            ? lag.longValue()
+                            : countEntriesAfter(streamOperations, group.lastDeliveredId()));
+                });
+    }
+
+    private long countEntriesAfter(StreamOperations<String, String, String> streamOperations, String lastDeliveredId) {
+        List<MapRecord<String, String, String>> records = streamOperations.range(LoginAuditPublisher.STREAM_KEY,
+                Range.rightUnbounded(Range.Bound.inclusive(nextId(RecordId.of(lastDeliveredId)))),
+                Limit.limit().count(LAG_SCAN_LIMIT));
+        return records == null ? 0 : records.size();
+    }
+
+    // Stream id 는 <ms>-<seq> 이므로 seq 를 1 증가시킨 id 가 바로 다음 id (XPENDING / XRANGE 의 exclusive 범위 대신 사용)
+    private static String nextId(RecordId id) {
+        return RecordId.of(id.getTimestamp(), id.getSequence() + 1).getValue();
+    }
+
+    // 재시작 후에도 자신의 pending 이벤트를 바로 다시 읽을 수 있도록 host 이름을 consumer 이름으로 사용
+    // host 이름이 바뀐 경우 이전 consumer 의 이벤트는 claimIdleEntries 로 가져옴
+    private static String resolveConsumerName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "worker-" + UUID.randomUUID();
+        }
+    }
+
+    // Stream record 를 검증하여 DB 저장에 필요한 값으로 변환 (필수 값 누락, 숫자 형식 오류 시 예외)
+    record LoginAuditRow(MapRecord<String, String, String> record, String email, long occurredAt) {
+
+        static LoginAuditRow from(MapRecord<String, String, String> record) {
+            Map<String, String> fields = record.getValue();
+            String email = fields.get("email");
+            String type = fields.get("type");
+            if (email == null || email.isBlank() || type == null) {
+                throw new IllegalArgumentException("email and type are required");
+            }
+            LoginEventType.valueOf(type);
+            String occurredAt = fields.get("occurredAt");
+            return new LoginAuditRow(record, email,
+                    occurredAt != null ? Long.parseLong(occurredAt) : record.getId().getTimestamp());
+        }
+
+        Object[] toInsertArgs() {
+            Map<String, String> fields = record.getValue();
+            return new Object[]{
+                    record.getId().getValue(),
+                    email,
+                    fields.get("type"),
+                    fields.get("provider"),
+                    fields.get("ip"),
+                    fields.get("userAgent"),
+                    new Timestamp(occurredAt)
+            };
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package dev.hyzoon.oauth_test.audit.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 로그인 / 토큰 재발급 이력
+// 저장은 LoginAuditWorker 가 JDBC batch insert 로 수행하며, 이 entity 는 테이블 정의(ddl-auto) 용도
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(name = "login_audit",
+        uniqueConstraints = @UniqueConstraint(name = "uk_login_audit_event_id", columnNames = "event_id"),
+        indexes = @Index(name = "idx_login_audit_email_occurred_at", columnList = "email, occurred_at"))
+public class LoginAudit {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Redis Stream 의 record id (중복 전달 시 같은 이벤트를 두 번 저장하지 않기 위한 key)
+    @Column(name = "event_id", nullable = false, length = 64)
+    private String eventId;
+
+    @Column(nullable = false)
+    private String email;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 16)
+    private LoginEventType eventType;
+
+    @Column(length = 32)
+    private String provider;
+
+    @Column(length = 64)
+    private String ip;
+
+    @Column(name = "user_agent", length = 512)
+    private String userAgent;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,6 @@
+package dev.hyzoon.oauth_test.audit.domain;
+
+public enum LoginEventType {
+    LOGIN, // OAuth2 로그인 성공
+    REFRESH // Refresh Token 으로 토큰 재발급
+}
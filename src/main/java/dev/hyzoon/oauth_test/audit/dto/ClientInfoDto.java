@@ -0,0 +1,18 @@
+package dev.hyzoon.oauth_test.audit.dto;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 로그인 / 토큰 재발급 요청을 보낸 client 정보 (감사 로그용)
+// controller / handler 에서 요청으로부터 추출하여 service 계층에 servlet 타입이 전달되지 않도록
+@Getter
+@AllArgsConstructor
+public class ClientInfoDto {
+    private String ip;
+    private String userAgent;
+
+    public static ClientInfoDto from(HttpServletRequest request) {
+        return new ClientInfoDto(request.getRemoteAddr(), request.getHeader("User-Agent"));
+    }
+}
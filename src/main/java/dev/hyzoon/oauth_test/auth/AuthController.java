@@ -1,16 +1,22 @@
 package dev.hyzoon.oauth_test.auth;
 
+import dev.hyzoon.oauth_test.audit.dto.ClientInfoDto;
 import dev.hyzoon.oauth_test.auth.dto.JwtTokenDto;
+import dev.hyzoon.oauth_test.auth.dto.TokenIntrospectionDto;
+import dev.hyzoon.oauth_test.auth.dto.TokenIntrospectionRequestDto;
 import dev.hyzoon.oauth_test.global.config.JwtProperties;
 import dev.hyzoon.oauth_test.global.util.CookieUtil;
 import dev.hyzoon.oauth_test.oauth.handler.OAuth2AuthenticationSuccessHandler;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping("/api/v1/auth")
@@ -18,6 +24,7 @@ import java.util.Map;
 public class AuthController {
 
     private final AuthService authService;
+    private final TokenIntrospectionService tokenIntrospectionService;
     private final JwtProperties jwtProperties;
 
     // temp auth code를 토큰으로 교환
@@ -41,7 +48,7 @@ public class AuthController {
             HttpServletResponse response
     ) {
         // 새로운 토큰 DTO를 생성
-        JwtTokenDto newJwtTokenDto = authService.refreshToken(refreshToken);
+        JwtTokenDto newJwtTokenDto = authService.refreshToken(refreshToken, ClientInfoDto.from(request));
 
         // 새로운 Refresh Token을 쿠키에 덮어쓰기 위해 기존 쿠키를 삭제하고 새로 추가
         int cookieMaxAgeSeconds = (int) (jwtProperties.getRefreshTokenExpiry() / 1000);
@@ -66,4 +73,22 @@ public class AuthController {
         CookieUtil.deleteCookie(request, response, OAuth2AuthenticationSuccessHandler.REFRESH_TOKEN_COOKIE_NAME);
         return ResponseEntity.ok("Logout successful");
     }
-}
\ No newline at end of file
+
+    // 내부 서비스용 토큰 일괄 검증 (ROLE_SERVICE 권한 필요)
+    // 응답은 요청한 토큰 순서와 동일하며, 가장 짧은 maxAge 를 Cache-Control 로도 내려줌
+    @PostMapping("/introspect")
+    public ResponseEntity<Map<String, Object>> introspect(@RequestBody TokenIntrospectionRequestDto requestDto) {
+        List<String> tokens = requestDto.getTokens();
+        if (tokens == null || tokens.isEmpty() || tokens.size() > TokenIntrospectionService.MAX_BATCH_SIZE) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "tokens must contain 1 to " + TokenIntrospectionService.MAX_BATCH_SIZE + " items"));
+        }
+
+        List<TokenIntrospectionDto> results = tokenIntrospectionService.introspect(tokens);
+        long maxAge = results.stream().mapToLong(TokenIntrospectionDto::getMaxAge).min().orElse(0);
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(maxAge, TimeUnit.SECONDS).cachePrivate())
+                .body(Map.of("results", results));
+    }
+}
@@ -1,33 +1,65 @@
 package dev.hyzoon.oauth_test.auth;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.hyzoon.oauth_test.audit.LoginAuditPublisher;
+import dev.hyzoon.oauth_test.audit.domain.LoginEventType;
+import dev.hyzoon.oauth_test.audit.dto.ClientInfoDto;
 import dev.hyzoon.oauth_test.auth.dto.JwtTokenDto;
 import dev.hyzoon.oauth_test.global.config.JwtProperties;
+import dev.hyzoon.oauth_test.global.datasource.RecentUserWriteTracker;
 import dev.hyzoon.oauth_test.global.exception.InvalidRefreshTokenException;
+import dev.hyzoon.oauth_test.global.jfr.UserLookupEvent;
 import dev.hyzoon.oauth_test.user.UserRepository;
 import dev.hyzoon.oauth_test.user.domain.User;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.concurrent.TimeUnit;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.*;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class AuthService {
+    private static final String REFRESH_LOCK_KEY_PREFIX = "refresh_lock:";
+    private static final String REFRESH_GRACE_KEY_PREFIX = "refresh_grace:";
+    private static final String REFRESH_FAILED_KEY_PREFIX = "refresh_failed:";
+    private static final long REFRESH_LOCK_EXPIRY = 3000; // 재발급 lock 최대 유지 시간 (ms)
+    private static final long REFRESH_GRACE_PERIOD = 10000; // 이전 Refresh Token 으로 같은 새 토큰 쌍을 받을 수 있는 시간 (ms)
+    private static final long REFRESH_POLL_INTERVAL = 50; // 다른 서버의 재발급 결과 확인 주기 (ms)
+
+    // lock 을 획득한 요청이 설정한 owner 값과 같은 경우에만 삭제 (TTL 이 지나 다른 서버가 획득한 lock 을 지우지 않도록)
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
     private final JwtTokenProvider jwtTokenProvider;
     private final RedisTemplate<String, String> redisTemplate;
+    private final RefreshTokenStore refreshTokenStore;
     private final UserRepository userRepository;
     private final JwtProperties jwtProperties;
     private final ObjectMapper objectMapper;
+    private final LoginAuditPublisher loginAuditPublisher;
+    private final RecentUserWriteTracker recentUserWriteTracker;
+    private final TransactionTemplate transactionTemplate;
+
+    // 이 서버에서 진행 중인 재발급 (key = Refresh Token digest)
+    private final ConcurrentHashMap<String, CompletableFuture<JwtTokenDto>> inFlightRefreshes = new ConcurrentHashMap<>();
 
     // @SneakyThrows = ObjectMapper로 객체를 JSON 문자열로 바꾸는 과정에서 `JsonProcessingException` 이라는 Checked Exception을 던질 수 있는데 이의 발생을 무시
+    // Redis 만 사용하므로 트랜잭션(DB connection) 불필요
     @SneakyThrows
-    @Transactional
     public JwtTokenDto exchangeCodeForToken(String code) {
         // 임시 코드로 redis의 교환해줄 토큰 조회
         String key = "auth_code:" + code;
@@ -45,38 +77,185 @@ public class AuthService {
     }
 
 
-    @Transactional
-    public JwtTokenDto refreshToken(String refreshTokenFromCookie) {
+    // 여러 탭 / 병렬 요청이 같은 Refresh Token 으로 동시에 재발급을 요청하는 경우 (single-flight)
+    // - 같은 서버: 진행 중인 재발급 결과(CompletableFuture)를 함께 기다림
+    // - 다른 서버: Redis lock 을 획득한 요청만 재발급하고, 나머지는 grace 기간 동안 저장된 새 토큰 쌍을 그대로 받음
+    // 대기 중에 DB connection 을 점유하지 않도록 트랜잭션을 사용하지 않음 (DB 조회는 findByEmail 하나뿐)
+    public JwtTokenDto refreshToken(String refreshTokenFromCookie, ClientInfoDto client) {
+        String tokenDigest = digest(refreshTokenFromCookie);
+
+        CompletableFuture<JwtTokenDto> myFlight = new CompletableFuture<>();
+        CompletableFuture<JwtTokenDto> inFlight = inFlightRefreshes.putIfAbsent(tokenDigest, myFlight);
+        if (inFlight != null) {
+            return awaitInFlight(inFlight);
+        }
+
+        try {
+            JwtTokenDto newJwtTokenDto = refreshOnce(refreshTokenFromCookie, tokenDigest, client);
+            myFlight.complete(newJwtTokenDto);
+            return newJwtTokenDto;
+        } catch (RuntimeException e) {
+            myFlight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightRefreshes.remove(tokenDigest, myFlight);
+        }
+    }
+
+    private JwtTokenDto refreshOnce(String refreshTokenFromCookie, String tokenDigest, ClientInfoDto client) {
         // Refresh Token 에서 이메일 추출
         String email = jwtTokenProvider.getEmailFromToken(refreshTokenFromCookie);
 
-        // Redis의 토큰 DTO를 조회하고 그 Refresh Token 과 일치하는지 확인
-        String storedRefreshToken = redisTemplate.opsForValue().get(email);
-        if (storedRefreshToken == null || !storedRefreshToken.equals(refreshTokenFromCookie)) {
-            throw new InvalidRefreshTokenException("Refresh Token does not match or not found in Redis.");
+        // 직전에 (다른 서버에서) 같은 토큰으로 재발급된 경우 grace 기간 동안은 같은 토큰 쌍을 반환
+        JwtTokenDto recentlyIssued = findRecentlyIssued(tokenDigest);
+        if (recentlyIssued != null) {
+            return recentlyIssued;
+        }
+
+        // 다른 서버에서 재발급이 진행 중이면 그 결과를 기다림
+        String lockKey = REFRESH_LOCK_KEY_PREFIX + tokenDigest;
+        String lockOwner = UUID.randomUUID().toString();
+        Boolean locked = redisTemplate.opsForValue().setIfAbsent(lockKey, lockOwner, REFRESH_LOCK_EXPIRY, TimeUnit.MILLISECONDS);
+        if (!Boolean.TRUE.equals(locked)) {
+            return awaitRecentlyIssued(tokenDigest);
+        }
+
+        try {
+            // 첫 확인과 lock 획득 사이에 다른 서버가 재발급을 마치고 lock 을 해제했을 수 있으므로 다시 확인
+            // (이미 Refresh Token 이 교체되어 아래 비교에서 401 이 되지 않도록)
+            recentlyIssued = findRecentlyIssued(tokenDigest);
+            if (recentlyIssued != null) {
+                return recentlyIssued;
+            }
+
+            // Redis의 토큰 DTO를 조회하고 그 Refresh Token 과 일치하는지 확인
+            String storedRefreshToken = refreshTokenStore.find(email);
+            if (storedRefreshToken == null || !storedRefreshToken.equals(refreshTokenFromCookie)) {
+                throw new InvalidRefreshTokenException("Refresh Token does not match or not found in Redis.");
+            }
+
+            // DB 에서 사용자 정보 조회 (role 업데이트 등의 정보 실시간 반영)
+            User user = findUser(email, "REFRESH").orElseThrow(() -> new RuntimeException("User not found."));
+
+            // 새로운 토큰 DTO 생성
+            JwtTokenDto newJwtTokenDto = jwtTokenProvider.generateTokenDto(user.getEmail(), user.getRoleKey());
+
+            // 동시에 들어온 다른 요청이 받을 수 있도록 새 토큰 쌍을 grace 기간 동안 저장한 뒤 redis 정보 업데이트
+            storeRecentlyIssued(tokenDigest, newJwtTokenDto);
+            refreshTokenStore.save(
+                    email,
+                    newJwtTokenDto.getRefreshToken(),
+                    jwtProperties.getRefreshTokenExpiry()
+            );
+
+            // 재발급 이력은 Redis Stream 에 추가만 하고 DB 저장은 LoginAuditWorker 가 비동기로 처리
+            loginAuditPublisher.publish(LoginEventType.REFRESH, email, null, client);
+
+            log.info("token refreshed");
+
+            return newJwtTokenDto;
+        } catch (RuntimeException e) {
+            // 다른 서버에서 기다리는 요청이 lock 만료까지 polling 하지 않고 바로 실패하도록 실패 표시를 남김
+            markFailed(tokenDigest, e);
+            throw e;
+        } finally {
+            redisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(lockKey), lockOwner);
         }
+    }
 
-        // DB 에서 사용자 정보 조회 (role 업데이트 등의 정보 실시간 반영)
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("User not found."));
+    // sliding renewal 용 Access Token 발급 (AccessTokenRenewer)
+    // 기존 토큰의 role 을 복사하지 않고 refresh 와 동일하게 DB 의 현재 role 로 발급 (role 변경 / 강등이 바로 반영되도록)
+    public Optional<String> renewAccessToken(String email) {
+        return findUser(email, "RENEWAL")
+                .map(user -> jwtTokenProvider.generateAccessToken(user.getEmail(), user.getRoleKey()));
+    }
 
-        // 새로운 토큰 DTO 생성
-        JwtTokenDto newJwtTokenDto = jwtTokenProvider.generateTokenDto(user.getEmail(), user.getRoleKey());
+    // 조회만 하므로 read-only 트랜잭션(replica)에서 수행
+    // 단, 최근에 로그인 등으로 정보가 변경된 사용자는 replica 에 아직 반영되지 않았을 수 있으므로 primary 에서 조회
+    private Optional<User> findUser(String email, String flow) {
+        UserLookupEvent lookupEvent = new UserLookupEvent();
+        lookupEvent.begin();
+        Optional<User> foundUser = recentUserWriteTracker.isRecentlyWritten(email)
+                ? transactionTemplate.execute(status -> userRepository.findByEmail(email))
+                : userRepository.findByEmail(email);
+        lookupEvent.flow = flow;
+        lookupEvent.found = foundUser.isPresent();
+        lookupEvent.commit();
+        return foundUser;
+    }
 
-        // redis 정보 업데이트
-        redisTemplate.opsForValue().set(
-                email,
-                newJwtTokenDto.getRefreshToken(),
-                jwtProperties.getRefreshTokenExpiry(),
-                TimeUnit.MILLISECONDS
-        );
+    private JwtTokenDto awaitInFlight(CompletableFuture<JwtTokenDto> inFlight) {
+        try {
+            return inFlight.get(REFRESH_LOCK_EXPIRY, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new InvalidRefreshTokenException("Concurrent token refresh did not complete in time.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InvalidRefreshTokenException("Interrupted while waiting for concurrent token refresh.");
+        }
+    }
 
-        log.info("token refreshed");
+    // lock 을 가진 다른 서버가 새 토큰 쌍을 저장하거나 실패를 표시할 때까지 짧게 polling (한 번의 MGET 으로 둘 다 확인)
+    @SneakyThrows
+    private JwtTokenDto awaitRecentlyIssued(String tokenDigest) {
+        List<String> keys = List.of(REFRESH_GRACE_KEY_PREFIX + tokenDigest, REFRESH_FAILED_KEY_PREFIX + tokenDigest);
+        long deadline = System.currentTimeMillis() + REFRESH_LOCK_EXPIRY;
+        while (System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(REFRESH_POLL_INTERVAL);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            List<String> values = redisTemplate.opsForValue().multiGet(keys);
+            if (values == null) {
+                continue;
+            }
+            if (values.get(0) != null) {
+                return objectMapper.readValue(values.get(0), JwtTokenDto.class);
+            }
+            if (values.get(1) != null) {
+                throw new InvalidRefreshTokenException("Concurrent token refresh failed - " + values.get(1));
+            }
+        }
+        throw new InvalidRefreshTokenException("Concurrent token refresh did not complete in time.");
+    }
 
-        return newJwtTokenDto;
+    // 실패 표시는 lock 유지 시간 동안만 남김 (이후 같은 토큰으로 다시 요청하면 처음부터 검증)
+    private void markFailed(String tokenDigest, RuntimeException cause) {
+        try {
+            redisTemplate.opsForValue().set(REFRESH_FAILED_KEY_PREFIX + tokenDigest, cause.getClass().getSimpleName(),
+                    REFRESH_LOCK_EXPIRY, TimeUnit.MILLISECONDS);
+        } catch (RuntimeException e) {
+            log.warn("Failed to mark token refresh failure - {}", e.getMessage());
+        }
+    }
+
+    @SneakyThrows
+    private JwtTokenDto findRecentlyIssued(String tokenDigest) {
+        String tokenDtoJson = redisTemplate.opsForValue().get(REFRESH_GRACE_KEY_PREFIX + tokenDigest);
+        return tokenDtoJson == null ? null : objectMapper.readValue(tokenDtoJson, JwtTokenDto.class);
+    }
+
+    @SneakyThrows
+    private void storeRecentlyIssued(String tokenDigest, JwtTokenDto jwtTokenDto) {
+        String tokenDtoJson = objectMapper.writeValueAsString(jwtTokenDto);
+        redisTemplate.opsForValue().set(REFRESH_GRACE_KEY_PREFIX + tokenDigest, tokenDtoJson, REFRESH_GRACE_PERIOD, TimeUnit.MILLISECONDS);
+    }
+
+    // Redis key 에 토큰 원문이 노출되지 않도록 SHA-256 digest 사용
+    @SneakyThrows
+    private static String digest(String token) {
+        byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        return HexFormat.of().formatHex(hash);
     }
 
-    @Transactional
+    // Redis 만 사용하므로 트랜잭션(DB connection) 불필요
     public void logout(String refreshToken) {
         if (!jwtTokenProvider.validateToken(refreshToken)) {
             // 이미 유효하지 않은 토큰이면 그냥 로그만 남김
@@ -88,8 +267,7 @@ public class AuthService {
         String email = jwtTokenProvider.getEmailFromToken(refreshToken);
 
         // Redis 에서 해당 이메일을 Key로 가진 Refresh Token 을 삭제
-        if (redisTemplate.opsForValue().get(email) != null) {
-            redisTemplate.delete(email);
+        if (refreshTokenStore.delete(email)) {
             log.info("Logout successful. Deleted refresh token for email: {}", email);
         } else {
             log.warn("Logout attempt for a non-existent refresh token in Redis. Email: {}", email);
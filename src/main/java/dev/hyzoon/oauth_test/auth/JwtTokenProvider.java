@@ -2,8 +2,10 @@ package dev.hyzoon.oauth_test.auth;
 
 import dev.hyzoon.oauth_test.auth.dto.JwtTokenDto;
 import dev.hyzoon.oauth_test.global.config.JwtProperties;
+import dev.hyzoon.oauth_test.global.jfr.TokenIssuanceEvent;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -20,6 +22,7 @@ import java.security.Key;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
+import java.util.List;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -38,16 +41,14 @@ public class JwtTokenProvider {
 
     // 이메일과 권한 정보를 바탕으로 토큰 DTO 생성
     public JwtTokenDto generateTokenDto(String email, String authorities) {
+        TokenIssuanceEvent event = new TokenIssuanceEvent();
+        event.begin();
+
         long now = (new Date()).getTime();
         Date accessTokenExpiresIn = new Date(now + jwtProperties.getAccessTokenExpiry());
         Date refreshTokenExpiresIn = new Date(now + jwtProperties.getRefreshTokenExpiry());
 
-        String accessToken = Jwts.builder()
-                .setSubject(email)
-                .claim(AUTHORITIES_KEY, authorities)
-                .setExpiration(accessTokenExpiresIn)
-                .signWith(key, SignatureAlgorithm.HS512)
-                .compact();
+        String accessToken = buildAccessToken(email, authorities, accessTokenExpiresIn);
 
         String refreshToken = Jwts.builder()
                 .setSubject(email)
@@ -55,6 +56,9 @@ public class JwtTokenProvider {
                 .signWith(key, SignatureAlgorithm.HS512)
                 .compact();
 
+        event.authorities = authorities;
+        event.commit();
+
         return JwtTokenDto.builder()
                 .grantType("Bearer")
                 .accessToken(accessToken)
@@ -62,16 +66,42 @@ public class JwtTokenProvider {
                 .build();
     }
 
+    // Access Token 만 새로 발급 (만료 임박 토큰의 sliding renewal 용, Refresh Token 은 그대로 유지)
+    public String generateAccessToken(String email, String authorities) {
+        TokenIssuanceEvent event = new TokenIssuanceEvent();
+        event.begin();
+
+        Date accessTokenExpiresIn = new Date(System.currentTimeMillis() + jwtProperties.getAccessTokenExpiry());
+        String accessToken = buildAccessToken(email, authorities, accessTokenExpiresIn);
+
+        event.authorities = authorities;
+        event.commit();
+        return accessToken;
+    }
+
+    private String buildAccessToken(String email, String authorities, Date expiresIn) {
+        return Jwts.builder()
+                .setSubject(email)
+                .claim(AUTHORITIES_KEY, authorities)
+                .setExpiration(expiresIn)
+                .signWith(key, SignatureAlgorithm.HS512)
+                .compact();
+    }
+
     // Access Token 에서 Authentication 생성
     public Authentication getAuthentication(String accessToken) {
-        Claims claims = parseClaims(accessToken);
+        return getAuthentication(accessToken, parseClaims(accessToken));
+    }
+
+    // 이미 검증한 claim 으로 Authentication 생성 (토큰을 다시 파싱하지 않음)
+    public Authentication getAuthentication(String accessToken, Claims claims) {
         if (claims.get(AUTHORITIES_KEY) == null) {
             throw new RuntimeException("권한 정보가 없는 토큰입니다.");
         }
 
         // claim 에서 권한 정보를 추출하여 Spring Security가 이해할 수 있는 GrantedAuthority 객체 컬렉션으로 변환
         Collection<? extends GrantedAuthority> authorities =
-                Arrays.stream(claims.get(AUTHORITIES_KEY).toString().split(","))
+                getRoles(claims).stream()
                         .map(SimpleGrantedAuthority::new)
                         .collect(Collectors.toList());
 
@@ -100,6 +130,24 @@ public class JwtTokenProvider {
         }
     }
 
+    // 서명이 유효한 토큰의 claim 반환 (만료된 토큰 포함), 서명 불일치 등 유효하지 않은 토큰이면 null
+    public Claims getVerifiedClaims(String token) {
+        try {
+            return parseClaims(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    // claim 의 권한 정보를 목록으로 반환 (Refresh Token 처럼 권한 정보가 없으면 빈 목록)
+    public List<String> getRoles(Claims claims) {
+        Object authorities = claims.get(AUTHORITIES_KEY);
+        if (authorities == null) {
+            return List.of();
+        }
+        return Arrays.asList(authorities.toString().split(","));
+    }
+
     private Claims parseClaims(String token) {
         try {
             return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
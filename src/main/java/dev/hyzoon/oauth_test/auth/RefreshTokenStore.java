@@ -0,0 +1,304 @@
+package dev.hyzoon.oauth_test.auth;
+
+import dev.hyzoon.oauth_test.global.jfr.SessionOperationEvent;
+import io.lettuce.core.RedisChannelHandler;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisConnectionStateListener;
+import io.lettuce.core.TrackingArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.protocol.ProtocolVersion;
+import io.lettuce.core.support.caching.CacheAccessor;
+import io.lettuce.core.support.caching.ClientSideCaching;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.net.SocketAddress;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+// 이메일 -> Refresh Token 으로 저장되는 Redis 세션 key 의 조회/저장/삭제를 담당
+// 조회 결과는 로컬 메모리에 캐싱하고, RESP3 client tracking 으로 Redis 가 key 변경 시 invalidation 을 push 하도록 하여
+// 다른 서버에서의 쓰기와도 일관성을 유지 (server-assisted client-side caching)
+// Redis 6 미만, RESP2 환경 등 tracking 을 사용할 수 없는 경우 RedisTemplate 으로 매번 조회
+@Slf4j
+@Component
+public class RefreshTokenStore {
+
+    private static final int MAX_CACHED_SESSIONS = 10000;
+
+    private final RedisConnectionFactory connectionFactory;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final CountingCacheAccessor cacheAccessor = new CountingCacheAccessor(MAX_CACHED_SESSIONS);
+    private StatefulRedisConnection<String, String> trackingConnection;
+    private volatile boolean trackingActive = false;
+
+    public RefreshTokenStore(RedisConnectionFactory connectionFactory,
+                             RedisTemplate<String, String> redisTemplate,
+                             MeterRegistry meterRegistry) {
+        this.connectionFactory = connectionFactory;
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void init() {
+        registerMetrics();
+        try {
+            enableTracking();
+        } catch (Exception e) {
+            log.warn("Redis client tracking unavailable, session lookups will not be cached locally - {}", e.getMessage());
+            closeTrackingConnection();
+        }
+    }
+
+    public String find(String email) {
+        SessionOperationEvent event = new SessionOperationEvent();
+        event.begin();
+        event.operation = "FIND";
+
+        String refreshToken = null;
+        boolean tracked = false;
+        if (trackingActive) {
+            try {
+                refreshToken = cacheAccessor.getOrLoad(email, key -> trackingConnection.sync().get(key));
+                tracked = true;
+            } catch (Exception e) {
+                log.warn("Tracked session lookup failed, falling back to RedisTemplate - {}", e.getMessage());
+            }
+        }
+        if (!tracked) {
+            refreshToken = redisTemplate.opsForValue().get(email);
+        }
+
+        event.tracked = tracked;
+        event.found = refreshToken != null;
+        event.commit();
+        return refreshToken;
+    }
+
+    public void save(String email, String refreshToken, long expiryMillis) {
+        SessionOperationEvent event = new SessionOperationEvent();
+        event.begin();
+        event.operation = "SAVE";
+
+        redisTemplate.opsForValue().set(email, refreshToken, expiryMillis, TimeUnit.MILLISECONDS);
+        // invalidation push 가 도착하기 전의 짧은 구간에도 이전 값을 읽지 않도록 로컬 캐시를 즉시 제거
+        cacheAccessor.evict(email);
+
+        event.commit();
+    }
+
+    public boolean delete(String email) {
+        SessionOperationEvent event = new SessionOperationEvent();
+        event.begin();
+        event.operation = "DELETE";
+
+        Boolean deleted = redisTemplate.delete(email);
+        cacheAccessor.evict(email);
+
+        event.found = Boolean.TRUE.equals(deleted);
+        event.commit();
+        return event.found;
+    }
+
+    private void enableTracking() {
+        if (!(connectionFactory instanceof LettuceConnectionFactory lettuceConnectionFactory)
+                || !(lettuceConnectionFactory.getNativeClient() instanceof RedisClient redisClient)) {
+            throw new IllegalStateException("standalone Lettuce client is required for client tracking");
+        }
+
+        // invalidation push 는 RESP3 에서만 같은 연결로 전달됨 (RESP2 로 고정된 경우 사용 불가)
+        if (redisClient.getOptions().getConfiguredProtocolVersion() == ProtocolVersion.RESP2) {
+            throw new IllegalStateException("RESP3 is required for client tracking");
+        }
+
+        trackingConnection = redisClient.connect(StringCodec.UTF8);
+        // CLIENT TRACKING 활성화 및 invalidation push -> cacheAccessor.evict 연결 (조회는 getOrLoad 로 직접 수행)
+        ClientSideCaching.enable(cacheAccessor, trackingConnection, TrackingArgs.Builder.enabled());
+        redisClient.addListener(new TrackingConnectionListener());
+        trackingActive = true;
+        log.info("Redis client-side caching enabled for session lookups (max {} entries)", MAX_CACHED_SESSIONS);
+    }
+
+    // 연결이 끊긴 동안에는 invalidation 을 받을 수 없으므로 로컬 캐시를 비우고 RedisTemplate 으로 조회
+    // 재연결 후에는 CLIENT TRACKING 을 다시 활성화한 뒤에 캐시 사용을 재개
+    private class TrackingConnectionListener implements RedisConnectionStateListener {
+
+        @Override
+        public void onRedisDisconnected(RedisChannelHandler<?, ?> connection) {
+            if (connection == trackingConnection) {
+                trackingActive = false;
+                cacheAccessor.clear();
+            }
+        }
+
+        @Override
+        public void onRedisConnected(RedisChannelHandler<?, ?> connection, SocketAddress socketAddress) {
+            if (connection != trackingConnection) {
+                return;
+            }
+            trackingConnection.async().clientTracking(TrackingArgs.Builder.enabled())
+                    .whenComplete((result, error) -> {
+                        cacheAccessor.clear();
+                        if (error == null) {
+                            trackingActive = true;
+                        } else {
+                            log.warn("Failed to re-enable Redis client tracking - {}", error.getMessage());
+                        }
+                    });
+        }
+
+        @Override
+        public void onRedisExceptionCaught(RedisChannelHandler<?, ?> connection, Throwable cause) {
+            // 연결 오류는 재연결(onRedisDisconnected / onRedisConnected)에서 처리
+        }
+    }
+
+    private void registerMetrics() {
+        FunctionCounter.builder("auth.session.cache.requests", cacheAccessor, accessor -> accessor.hits.get())
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("auth.session.cache.requests", cacheAccessor, accessor -> accessor.misses.get())
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("auth.session.cache.hit.ratio", cacheAccessor, CountingCacheAccessor::hitRatio)
+                .register(meterRegistry);
+        Gauge.builder("auth.session.cache.size", cacheAccessor, CountingCacheAccessor::size)
+                .register(meterRegistry);
+        Gauge.builder("auth.session.cache.tracking.active", this, store -> store.trackingActive ? 1 : 0)
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        trackingActive = false;
+        closeTrackingConnection();
+    }
+
+    private void closeTrackingConnection() {
+        if (trackingConnection != null) {
+            trackingConnection.close();
+        }
+        trackingConnection = null;
+        cacheAccessor.clear();
+    }
+
+    // 최대 크기를 넘으면 가장 오래 사용되지 않은 항목부터 제거하는 LRU 캐시 (hit / miss 집계 포함)
+    // Redis 조회(GET)와 캐시 저장 사이에 invalidation push 가 먼저 처리되면, Redis 는 해당 key 의 tracking 을 이미 해제했으므로
+    // 그대로 저장된 이전 값은 다시 invalidate 되지 않음
+    // 이를 막기 위해 조회 중인 key 마다 evict 시 증가하는 version 을 두고, 조회 시작 이후 해당 key 가 invalidate 되었다면 저장을 생략
+    // (다른 key 의 invalidation 은 영향을 주지 않음, clear 는 모든 key 에 해당하므로 generation 으로 구분)
+    static class CountingCacheAccessor implements CacheAccessor<String, String> {
+
+        private final Map<String, String> cache;
+        private final Map<String, InFlightLoad> inFlightLoads = new HashMap<>(); // 조회 중인 key 만 보관
+        private final AtomicLong hits = new AtomicLong();
+        private final AtomicLong misses = new AtomicLong();
+        private long generation = 0; // this 로 동기화
+
+        CountingCacheAccessor(int maxSize) {
+            this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                    return size() > maxSize;
+                }
+            };
+        }
+
+        // 캐시에 없으면 loader 로 Redis 에서 조회한 뒤, 조회 중 invalidation 이 없었던 경우에만 캐시에 저장
+        String getOrLoad(String key, Function<String, String> loader) {
+            InFlightLoad load;
+            long observedVersion;
+            long observedGeneration;
+            synchronized (this) {
+                String cached = cache.get(key);
+                if (cached != null) {
+                    hits.incrementAndGet();
+                    return cached;
+                }
+                misses.incrementAndGet();
+                load = inFlightLoads.computeIfAbsent(key, k -> new InFlightLoad());
+                load.loaders++;
+                observedVersion = load.version;
+                observedGeneration = generation;
+            }
+
+            String value = null;
+            try {
+                value = loader.apply(key);
+                return value;
+            } finally {
+                synchronized (this) {
+                    if (--load.loaders == 0) {
+                        inFlightLoads.remove(key);
+                    }
+                    if (value != null && load.version == observedVersion && generation == observedGeneration) {
+                        cache.put(key, value);
+                    }
+                }
+            }
+        }
+
+        @Override
+        public synchronized String get(String key) {
+            String value = cache.get(key);
+            (value != null ? hits : misses).incrementAndGet();
+            return value;
+        }
+
+        @Override
+        public synchronized void put(String key, String value) {
+            cache.put(key, value);
+        }
+
+        // invalidation push 처리 (Lettuce event loop) 와 로컬 쓰기(save / delete) 모두 이 method 를 거침
+        @Override
+        public synchronized void evict(String key) {
+            InFlightLoad load = inFlightLoads.get(key);
+            if (load != null) {
+                load.version++;
+            }
+            cache.remove(key);
+        }
+
+        synchronized void clear() {
+            generation++;
+            cache.clear();
+        }
+
+        synchronized int size() {
+            return cache.size();
+        }
+
+        synchronized int inFlightLoadCount() {
+            return inFlightLoads.size();
+        }
+
+        double hitRatio() {
+            long hit = hits.get();
+            long total = hit + misses.get();
+            return total == 0 ? 0.0 : (double) hit / total;
+        }
+
+        // 같은 key 를 동시에 조회하는 호출 수와 조회 중 invalidation 횟수 (CountingCacheAccessor 로 동기화)
+        private static class InFlightLoad {
+            private int loaders;
+            private long version;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package dev.hyzoon.oauth_test.auth;
+
+import dev.hyzoon.oauth_test.auth.dto.TokenIntrospectionDto;
+import dev.hyzoon.oauth_test.auth.dto.TokenIntrospectionDto.TokenStatus;
+import io.jsonwebtoken.Claims;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+// 내부 서비스(gateway 등)가 여러 토큰의 상태를 한 번의 요청으로 확인할 수 있도록 하는 introspection 로직
+// 서명 / 만료 검증은 JwtTokenProvider 와 동일한 로직을 사용하고, 폐기 여부는 Redis 의 세션(Refresh Token) 으로 판단
+@Service
+@RequiredArgsConstructor
+public class TokenIntrospectionService {
+
+    public static final int MAX_BATCH_SIZE = 100;
+
+    // 유효한 토큰도 로그아웃으로 폐기될 수 있으므로 캐싱 시간을 짧게 제한
+    private static final long MAX_ACTIVE_CACHE_SECONDS = 30;
+    // 만료 / 서명 불일치 결과는 다시 바뀌지 않으므로 길게 캐싱 가능
+    private static final long FINAL_RESULT_CACHE_SECONDS = 3600;
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final RefreshTokenStore refreshTokenStore;
+
+    public List<TokenIntrospectionDto> introspect(List<String> tokens) {
+        long nowMillis = System.currentTimeMillis();
+        // 같은 사용자의 토큰이 여러 개 포함된 경우 세션 조회를 한 번만 하도록
+        Map<String, String> sessionsBySubject = new HashMap<>();
+
+        List<TokenIntrospectionDto> results = new ArrayList<>(tokens.size());
+        for (String token : tokens) {
+            results.add(introspect(token, nowMillis, sessionsBySubject));
+        }
+        return results;
+    }
+
+    private TokenIntrospectionDto introspect(String token, long nowMillis, Map<String, String> sessionsBySubject) {
+        Claims claims = token == null ? null : jwtTokenProvider.getVerifiedClaims(token);
+        if (claims == null || claims.getSubject() == null || claims.getExpiration() == null) {
+            return inactive(TokenStatus.INVALID, null);
+        }
+
+        String subject = claims.getSubject();
+        List<String> roles = jwtTokenProvider.getRoles(claims);
+        String tokenType = roles.isEmpty() ? "refresh" : "access";
+        long expiresAtMillis = claims.getExpiration().getTime();
+        Long exp = expiresAtMillis / 1000;
+
+        if (expiresAtMillis <= nowMillis) {
+            return inactive(TokenStatus.EXPIRED, exp);
+        }
+
+        // Refresh Token 은 Redis 에 저장된 토큰과 일치해야 하고, Access Token 은 사용자의 세션이 남아 있어야 함 (로그아웃 시 폐기)
+        String storedRefreshToken = sessionsBySubject.computeIfAbsent(subject, key -> Objects.toString(refreshTokenStore.find(key), ""));
+        boolean revoked = roles.isEmpty() ? !storedRefreshToken.equals(token) : storedRefreshToken.isEmpty();
+        long remainingSeconds = (expiresAtMillis - nowMillis) / 1000;
+
+        return TokenIntrospectionDto.builder()
+                .active(!revoked)
+                .status(revoked ? TokenStatus.REVOKED : TokenStatus.ACTIVE)
+                .tokenType(tokenType)
+                .sub(subject)
+                .roles(roles.isEmpty() ? null : roles)
+                .exp(exp)
+                .maxAge(Math.min(remainingSeconds, MAX_ACTIVE_CACHE_SECONDS))
+                .build();
+    }
+
+    private TokenIntrospectionDto inactive(TokenStatus status, Long exp) {
+        return TokenIntrospectionDto.builder()
+                .active(false)
+                .status(status)
+                .exp(exp)
+                .maxAge(FINAL_RESULT_CACHE_SECONDS)
+                .build();
+    }
+}
@@ -0,0 +1,28 @@
+package dev.hyzoon.oauth_test.auth.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TokenIntrospectionDto {
+    private boolean active;
+    private TokenStatus status;
+    private String tokenType; // "access" 또는 "refresh"
+    private String sub;
+    private List<String> roles;
+    private Long exp; // 만료 시각 (epoch seconds)
+    private long maxAge; // 이 결과를 캐싱해도 되는 시간 (seconds)
+
+    public enum TokenStatus {
+        ACTIVE, EXPIRED, REVOKED, INVALID
+    }
+}
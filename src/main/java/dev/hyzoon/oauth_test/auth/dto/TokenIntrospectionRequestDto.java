@@ -0,0 +1,12 @@
+package dev.hyzoon.oauth_test.auth.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class TokenIntrospectionRequestDto {
+    private List<String> tokens;
+}
@@ -0,0 +1,72 @@
+package dev.hyzoon.oauth_test.auth.filter;
+
+import dev.hyzoon.oauth_test.auth.AuthService;
+import dev.hyzoon.oauth_test.auth.RefreshTokenStore;
+import dev.hyzoon.oauth_test.global.config.JwtProperties;
+import io.jsonwebtoken.Claims;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+// 만료가 임박한 유효한 Access Token 으로 요청이 들어오면 새 Access Token 을 응답 헤더로 내려주는 sliding renewal (opt-in)
+// 클라이언트가 401 을 받은 뒤 /refresh 를 호출하고 원래 요청을 재시도하는 왕복을 줄이기 위한 용도
+// 같은 토큰에 대해서는 서버 전체에서 한 번만 재발급 (로컬 digest cache -> Redis SET NX 순으로 확인)
+// 세션(Refresh Token)이 남아 있는 동안만 연장하고, role 은 기존 토큰이 아닌 DB 의 현재 값으로 발급
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccessTokenRenewer {
+
+    public static final String RENEWED_ACCESS_TOKEN_HEADER = "X-Access-Token";
+    private static final String RENEWAL_KEY_PREFIX = "access_renewal:";
+
+    private final AuthService authService;
+    private final JwtProperties jwtProperties;
+    private final RefreshTokenStore refreshTokenStore;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final TokenDigestCache renewedTokens = new TokenDigestCache();
+
+    // 새 Access Token 을 발급했으면 true
+    public boolean renewIfNearExpiry(String accessToken, Claims claims, HttpServletResponse response) {
+        if (!jwtProperties.isSlidingRenewalEnabled()) {
+            return false;
+        }
+        long remainingMillis = claims.getExpiration().getTime() - System.currentTimeMillis();
+        if (remainingMillis <= 0 || remainingMillis > jwtProperties.getSlidingRenewalWindow()) {
+            return false;
+        }
+        if (renewedTokens.contains(accessToken)) {
+            return false;
+        }
+        renewedTokens.add(accessToken);
+
+        try {
+            // 로그아웃 등으로 세션이 사라진 사용자의 토큰은 연장하지 않음
+            String email = claims.getSubject();
+            if (refreshTokenStore.find(email) == null) {
+                return false;
+            }
+
+            // 다른 서버에서 이미 같은 토큰을 재발급했는지 확인 (기존 토큰이 만료되면 key 도 함께 만료)
+            String renewalKey = RENEWAL_KEY_PREFIX + Long.toHexString(TokenDigestCache.digest(accessToken));
+            Boolean first = redisTemplate.opsForValue().setIfAbsent(renewalKey, "1", remainingMillis, TimeUnit.MILLISECONDS);
+            if (!Boolean.TRUE.equals(first)) {
+                return false;
+            }
+
+            // 탈퇴 등으로 사용자가 없으면 연장하지 않음 (기존 토큰은 만료 후 /refresh 에서 거절됨)
+            Optional<String> renewed = authService.renewAccessToken(email);
+            renewed.ifPresent(token -> response.setHeader(RENEWED_ACCESS_TOKEN_HEADER, token));
+            return renewed.isPresent();
+        } catch (Exception e) {
+            // 재발급 실패가 요청 처리에 영향을 주지 않도록 (클라이언트는 기존처럼 /refresh 사용 가능)
+            log.warn("Sliding access token renewal failed - {}", e.getMessage());
+            return false;
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package dev.hyzoon.oauth_test.auth.filter;
 
 import dev.hyzoon.oauth_test.auth.JwtTokenProvider;
+import dev.hyzoon.oauth_test.global.jfr.TokenVerificationEvent;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -13,6 +15,10 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Set;
 
 // API 요청 헤더에 담겨 오는 Access Token을 검증하고, SecurityContext에 인증 정보를 저장하는 역할을 하는 필터
 // Spring Security 설정에서 UsernamePasswordAuthenticationFilter 앞에 위치
@@ -21,7 +27,38 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
+
+    // 인증이 필요 없는 경로 (SecurityConfig 의 permitAll 경로와 일치)
+    private static final Set<String> EXCLUDED_PATHS = Set.of(
+            "/", "/api/v1/auth/refresh", "/api/v1/auth/token", "/api/v1/auth/logout");
+    private static final List<String> EXCLUDED_PATH_PREFIXES = List.of("/login/", "/oauth2/", "/actuator/health/");
+
+    // 암호 연산 전에 수행하는 구조 검사 기준
+    // HS512 서명은 64바이트 = base64url(padding 없음) 86자
+    private static final int MIN_TOKEN_LENGTH = 110;
+    private static final int MAX_TOKEN_LENGTH = 4096;
+    private static final int HS512_SIGNATURE_LENGTH = 86;
+    private static final int MAX_HEADER_LENGTH = 128;
+    private static final String EXPECTED_ALG = "\"alg\":\"HS512\"";
+
     private final JwtTokenProvider jwtTokenProvider;
+    private final AccessTokenRenewer accessTokenRenewer;
+    private final TokenDigestCache rejectedTokenCache = new TokenDigestCache();
+
+    // 인증이 필요 없는 경로는 필터를 거치지 않도록
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        String path = request.getServletPath();
+        if (EXCLUDED_PATHS.contains(path)) {
+            return true;
+        }
+        for (String prefix : EXCLUDED_PATH_PREFIXES) {
+            if (path.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
 
     // 모든 요청이 DispatcherServlet에 도달하기 전에 이 method를 거침
     @Override
@@ -33,18 +70,47 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // 요청 헤더에서 JWT 토큰을 추출
         String jwt = resolveToken(request);
 
-        // 토큰이 존재하고, 유효성 검증(validateToken)에 성공한 경우
-        if (StringUtils.hasText(jwt) && jwtTokenProvider.validateToken(jwt)) {
-            // 토큰에서 인증 정보(Authentication 객체)를 가져옴
-            Authentication authentication = jwtTokenProvider.getAuthentication(jwt);
-            // SecurityContextHolder에 인증 정보를 설정 (해당 요청이 처리되는 동안에는 사용자가 인증된 것으로 간주)
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+        if (jwt != null) {
+            authenticate(jwt, response);
         }
 
         // 다음 필터로 요청과 응답을 전달
         filterChain.doFilter(request, response);
     }
 
+    // 구조 검사를 통과하고, 최근 거부된 토큰이 아니며, 서명과 만료 시간 검증에 성공한 경우 SecurityContext 에 인증 정보 설정
+    // 검증 결과와 소요 시간은 JFR event 로 기록
+    private void authenticate(String jwt, HttpServletResponse response) {
+        TokenVerificationEvent event = new TokenVerificationEvent();
+        event.begin();
+        event.tokenLength = jwt.length();
+
+        if (!isWellFormed(jwt)) {
+            event.outcome = "MALFORMED";
+        } else if (rejectedTokenCache.contains(jwt)) {
+            event.outcome = "CACHED_REJECT";
+        } else {
+            // 토큰을 한 번만 파싱하여 검증과 인증 정보 생성에 함께 사용
+            Claims claims = jwtTokenProvider.getVerifiedClaims(jwt);
+            if (claims != null && claims.getExpiration() != null && claims.getExpiration().getTime() > System.currentTimeMillis()
+                    && !jwtTokenProvider.getRoles(claims).isEmpty()) {
+                // 토큰에서 인증 정보(Authentication 객체)를 가져옴
+                Authentication authentication = jwtTokenProvider.getAuthentication(jwt, claims);
+                // SecurityContextHolder에 인증 정보를 설정 (해당 요청이 처리되는 동안에는 사용자가 인증된 것으로 간주)
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+                // 만료가 임박한 경우 새 Access Token 을 응답 헤더로 발급 (sliding renewal 설정 시)
+                event.renewed = accessTokenRenewer.renewIfNearExpiry(jwt, claims, response);
+                event.outcome = "ACCEPTED";
+            } else {
+                // 서명 불일치, 만료, 권한 정보 없음 (Refresh Token) 등으로 거부된 토큰은 다시 유효해지지 않으므로 기억해 두고 재검증을 생략
+                rejectedTokenCache.add(jwt);
+                event.outcome = "REJECTED";
+            }
+        }
+
+        event.commit();
+    }
+
     private String resolveToken(HttpServletRequest request) {
         String bearerToken = request.getHeader(AUTHORIZATION_HEADER);
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith(BEARER_PREFIX)) {
@@ -52,4 +118,50 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         return null;
     }
-}
\ No newline at end of file
+
+    // jjwt 파싱 및 HMAC 검증 전에 수행하는 저비용 구조 검사 (길이, segment 개수, base64url 문자, header 의 alg)
+    // 예외를 발생시키지 않고 false 를 반환하므로 잘못된 입력에 대한 비용이 매우 작음
+    static boolean isWellFormed(String token) {
+        int length = token.length();
+        if (length < MIN_TOKEN_LENGTH || length > MAX_TOKEN_LENGTH) {
+            return false;
+        }
+
+        int firstDot = -1;
+        int secondDot = -1;
+        for (int i = 0; i < length; i++) {
+            char c = token.charAt(i);
+            if (c == '.') {
+                if (firstDot < 0) {
+                    firstDot = i;
+                } else if (secondDot < 0) {
+                    secondDot = i;
+                } else {
+                    return false; // segment 가 3개를 초과
+                }
+            } else if (!isBase64UrlChar(c)) {
+                return false;
+            }
+        }
+
+        // header.payload.signature 형식이며 각 segment 가 비어있지 않아야 함
+        if (secondDot < 0 || firstDot == 0 || secondDot == firstDot + 1) {
+            return false;
+        }
+        if (length - secondDot - 1 != HS512_SIGNATURE_LENGTH || firstDot > MAX_HEADER_LENGTH) {
+            return false;
+        }
+
+        // header 만 decode 하여 서명 알고리즘 확인 ("alg":"none" 등의 토큰을 조기에 거부)
+        try {
+            byte[] header = Base64.getUrlDecoder().decode(token.substring(0, firstDot));
+            return new String(header, StandardCharsets.UTF_8).contains(EXPECTED_ALG);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static boolean isBase64UrlChar(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '-' || c == '_';
+    }
+}
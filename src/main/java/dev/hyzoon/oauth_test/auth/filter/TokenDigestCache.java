@@ -0,0 +1,65 @@
+package dev.hyzoon.oauth_test.auth.filter;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 토큰의 digest 를 기억하는 고정 크기 cache (TTL 없이 덮어쓰기 방식, direct-mapped)
+// - 검증에 실패한 토큰의 negative cache: 서명 불일치, 만료 등으로 한 번 거부된 토큰은 다시 유효해지지 않으므로
+//   동일한 위조/만료 토큰이 반복해서 들어오는 경우 jjwt 파싱과 HMAC 검증을 건너뛰기 위해 사용
+// - 이미 재발급(sliding renewal)한 토큰 기록: Redis 확인 없이 같은 토큰의 재발급 시도를 건너뛰기 위해 사용
+class TokenDigestCache {
+
+    private static final int DEFAULT_CAPACITY = 4096; // 2의 거듭제곱이어야 함 (mask 연산)
+    private static final long EMPTY = 0L;
+
+    // thread 마다 MessageDigest 를 재사용하여 요청마다 객체를 생성하지 않도록
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
+    });
+
+    private final AtomicLongArray slots;
+    private final int mask;
+
+    TokenDigestCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    TokenDigestCache(int capacity) {
+        if (Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("capacity must be a power of two: " + capacity);
+        }
+        this.slots = new AtomicLongArray(capacity);
+        this.mask = capacity - 1;
+    }
+
+    boolean contains(String token) {
+        long digest = digest(token);
+        return slots.get(indexOf(digest)) == digest;
+    }
+
+    void add(String token) {
+        long digest = digest(token);
+        slots.set(indexOf(digest), digest);
+    }
+
+    private int indexOf(long digest) {
+        return (int) (digest ^ (digest >>> 32)) & mask;
+    }
+
+    // 공격자가 충돌을 만들어 정상 토큰을 거부시키지 못하도록 String.hashCode 대신 SHA-256 앞 8바이트를 사용
+    static long digest(String token) {
+        MessageDigest md = SHA_256.get();
+        byte[] hash = md.digest(token.getBytes(StandardCharsets.US_ASCII));
+        long value = 0L;
+        for (int i = 0; i < Long.BYTES; i++) {
+            value = (value << 8) | (hash[i] & 0xFF);
+        }
+        return value == EMPTY ? 1L : value; // 0 은 빈 슬롯 표시용
+    }
+}
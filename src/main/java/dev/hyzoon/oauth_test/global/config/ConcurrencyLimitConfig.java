@@ -0,0 +1,40 @@
+package dev.hyzoon.oauth_test.global.config;
+
+import dev.hyzoon.oauth_test.global.limit.AdaptiveConcurrencyLimiter;
+import dev.hyzoon.oauth_test.global.limit.ConcurrencyLimitFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.cors.CorsConfigurationSource;
+
+// HTTP 요청 동시 처리 수 제한 (SecurityConfig 와 마찬가지로 web server 가 없는 사용자 일괄 등록 명령 실행 시에는 구성하지 않음)
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class ConcurrencyLimitConfig {
+
+    private static final int INITIAL_LIMIT = 20;
+    private static final int MIN_LIMIT = 5;
+    private static final int MAX_LIMIT = 200;
+
+    @Bean
+    public AdaptiveConcurrencyLimiter authConcurrencyLimiter() {
+        return new AdaptiveConcurrencyLimiter(INITIAL_LIMIT, MIN_LIMIT, MAX_LIMIT);
+    }
+
+    // Spring Security 필터 체인(order = -100) 보다 먼저 실행되도록 등록
+    // 거절 응답에도 SecurityConfig 와 같은 CORS 설정을 적용하기 위해 CorsConfigurationSource 를 함께 전달
+    // (HandlerMappingIntrospector 도 CorsConfigurationSource 이므로 bean 이름으로 지정)
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(AdaptiveConcurrencyLimiter authConcurrencyLimiter,
+                                                                                @Qualifier("corsConfigurationSource") CorsConfigurationSource corsConfigurationSource,
+                                                                                MeterRegistry meterRegistry) {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(
+                new ConcurrencyLimitFilter(authConcurrencyLimiter, corsConfigurationSource, meterRegistry));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
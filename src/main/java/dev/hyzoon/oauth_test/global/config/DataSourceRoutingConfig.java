@@ -0,0 +1,100 @@
+package dev.hyzoon.oauth_test.global.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import dev.hyzoon.oauth_test.global.datasource.ReplicaRoutingDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// read-only 트랜잭션은 replica, 그 외에는 primary 로 연결하는 DataSource 구성 (datasource-routing.enabled=true 인 경우에만)
+// LazyConnectionDataSourceProxy 는 실제 query 가 실행될 때 connection 을 가져오므로
+// 트랜잭션 시작 시 설정되는 read-only 여부를 보고 primary / replica 를 선택할 수 있음
+// 자동 구성 DataSource 를 대체하므로 spring.datasource.hikari.* (pool 크기, timeout 등) 는 직접 binding 하여 모든 pool 에 적용
+// open-in-view 가 켜져 있으면 요청 동안 EntityManager 가 첫 트랜잭션의 connection 을 계속 사용하므로
+// 이후 트랜잭션의 read-only 여부와 관계없이 같은 DataSource 로 연결됨 -> routing 사용 시 open-in-view=false 필수
+@Configuration
+@ConditionalOnProperty(prefix = "datasource-routing", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    private static final String HIKARI_PREFIX = "spring.datasource.hikari";
+    private static final String OPEN_IN_VIEW_PROPERTY = "spring.jpa.open-in-view";
+
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourceProperties dataSourceProperties,
+                                 DataSourceRoutingProperties routingProperties,
+                                 Environment environment) {
+        checkOpenInViewDisabled(environment);
+        Binder binder = Binder.get(environment);
+        HikariDataSource primary = primaryDataSource(dataSourceProperties, binder);
+
+        List<DataSourceRoutingProperties.Replica> replicas = routingProperties.getReplicas();
+        List<DataSource> replicaDataSources = new ArrayList<>(replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            replicaDataSources.add(replicaDataSource(dataSourceProperties, binder, replicas.get(i), i));
+        }
+        return routingDataSource(primary, replicaDataSources);
+    }
+
+    // open-in-view 미지정 시 기본값은 true
+    static void checkOpenInViewDisabled(Environment environment) {
+        if (environment.getProperty(OPEN_IN_VIEW_PROPERTY, Boolean.class, true)) {
+            throw new IllegalStateException(OPEN_IN_VIEW_PROPERTY + "=false is required when datasource-routing is enabled");
+        }
+    }
+
+    static HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties, Binder binder) {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        binder.bind(HIKARI_PREFIX, Bindable.ofInstance(primary));
+        primary.setPoolName("primary");
+        return primary;
+    }
+
+    // primary 와 같은 pool 설정을 사용하고, 접속 정보와 maximumPoolSize 만 replica 별로 지정
+    static HikariDataSource replicaDataSource(DataSourceProperties dataSourceProperties, Binder binder,
+                                              DataSourceRoutingProperties.Replica replica, int index) {
+        HikariDataSource replicaDataSource = new HikariDataSource();
+        binder.bind(HIKARI_PREFIX, Bindable.ofInstance(replicaDataSource));
+        replicaDataSource.setPoolName("replica-" + index);
+        replicaDataSource.setDriverClassName(dataSourceProperties.determineDriverClassName());
+        replicaDataSource.setJdbcUrl(replica.getUrl());
+        replicaDataSource.setUsername(replica.getUsername() != null ? replica.getUsername() : dataSourceProperties.determineUsername());
+        replicaDataSource.setPassword(replica.getPassword() != null ? replica.getPassword() : dataSourceProperties.determinePassword());
+        if (replica.getMaximumPoolSize() != null) {
+            replicaDataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+        }
+        replicaDataSource.setReadOnly(true);
+        return replicaDataSource;
+    }
+
+    static DataSource routingDataSource(DataSource primary, List<DataSource> replicas) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+        if (replicas.isEmpty()) {
+            return dataSource;
+        }
+
+        Map<Object, Object> targets = new HashMap<>();
+        for (int i = 0; i < replicas.size(); i++) {
+            targets.put(i, replicas.get(i));
+        }
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(replicas.size());
+        routingDataSource.setTargetDataSources(targets);
+        routingDataSource.afterPropertiesSet();
+        dataSource.setReadOnlyDataSource(routingDataSource);
+        return dataSource;
+    }
+}
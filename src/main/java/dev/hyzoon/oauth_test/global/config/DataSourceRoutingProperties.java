@@ -0,0 +1,28 @@
+package dev.hyzoon.oauth_test.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "datasource-routing") // "datasource-routing" 접두사를 가진 설정을 binding
+public class DataSourceRoutingProperties {
+    private boolean enabled = false; // true 이면 read-only 트랜잭션을 replica 로 보냄 (primary = spring.datasource)
+    private List<Replica> replicas = new ArrayList<>();
+    private long primaryStickiness = 5000; // 사용자 정보 변경 후 이 시간 동안은 해당 사용자 조회를 primary 에서 수행 (ms, replica 지연 대비)
+
+    @Getter
+    @Setter
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+        private Integer maximumPoolSize; // 미지정 시 spring.datasource.hikari.maximum-pool-size 와 동일
+    }
+}
@@ -0,0 +1,16 @@
+package dev.hyzoon.oauth_test.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "github") // "github" 접두사를 가진 설정을 binding
+public class GithubProperties {
+    private String emailsUri = "https://api.github.com/user/emails"; // 비공개 email 조회용 endpoint
+    private long emailTimeout = 2000; // email 조회 대기 시간 (ms, connect / read timeout 으로 절반씩 나누어 적용)
+    private long emailCacheExpiry = 600000; // 조회한 email 의 캐시 유지 시간 (ms)
+}
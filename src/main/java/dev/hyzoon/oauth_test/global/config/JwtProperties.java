@@ -14,4 +14,6 @@ public class JwtProperties {
     private long accessTokenExpiry;
     private long refreshTokenExpiry;
     private long authCodeExpiry;
+    private boolean slidingRenewalEnabled = false; // 만료 임박 Access Token 을 응답 헤더로 재발급할지 여부 (opt-in)
+    private long slidingRenewalWindow = 300000; // 만료까지 남은 시간이 이 값 이하이면 재발급 (ms)
 }
@@ -0,0 +1,13 @@
+package dev.hyzoon.oauth_test.global.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// @Scheduled 작업 (login audit worker 등) 활성화
+// 사용자 일괄 등록 명령 (--import-users) 실행 시에는 scheduling.enabled=false 로 비활성화
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(prefix = "scheduling", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SchedulingConfig {
+}
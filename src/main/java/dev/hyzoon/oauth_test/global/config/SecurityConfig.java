@@ -1,15 +1,19 @@
 package dev.hyzoon.oauth_test.global.config;
 
 import dev.hyzoon.oauth_test.auth.JwtTokenProvider;
+import dev.hyzoon.oauth_test.auth.filter.AccessTokenRenewer;
 import dev.hyzoon.oauth_test.auth.filter.JwtAuthenticationFilter;
 import dev.hyzoon.oauth_test.auth.handler.JwtAccessDeniedHandler;
 import dev.hyzoon.oauth_test.auth.handler.JwtAuthenticationEntryPoint;
 import dev.hyzoon.oauth_test.oauth.CustomOAuth2UserService;
+import dev.hyzoon.oauth_test.oauth.RedisOAuth2AuthorizationRequestRepository;
 import dev.hyzoon.oauth_test.oauth.handler.OAuth2AuthenticationFailureHandler;
 import dev.hyzoon.oauth_test.oauth.handler.OAuth2AuthenticationSuccessHandler;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
@@ -22,15 +26,19 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import java.util.List;
 
+// HTTP 요청이 없는 사용자 일괄 등록 명령 (WebApplicationType.NONE) 실행 시에는 구성하지 않음
 @Configuration
 @EnableWebSecurity
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequiredArgsConstructor
 public class SecurityConfig {
 
     private final CustomOAuth2UserService customOAuth2UserService;
+    private final RedisOAuth2AuthorizationRequestRepository redisOAuth2AuthorizationRequestRepository;
     private final OAuth2AuthenticationSuccessHandler oAuth2AuthenticationSuccessHandler;
     private final OAuth2AuthenticationFailureHandler oAuth2AuthenticationFailureHandler;
     private final JwtTokenProvider jwtTokenProvider;
+    private final AccessTokenRenewer accessTokenRenewer;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
     private final JwtAccessDeniedHandler jwtAccessDeniedHandler;
 
@@ -51,7 +59,10 @@ public class SecurityConfig {
                         // 인증 없이도 접근을 허용할 API 명시
                         .requestMatchers("/api/v1/auth/refresh", "/api/v1/auth/token", "/api/v1/auth/logout").permitAll() // auth 관련
                         .requestMatchers("/", "/login/**", "/oauth2/**").permitAll() // 소셜 로그인 관련
+                        .requestMatchers("/actuator/health/**").permitAll() // liveness / readiness probe
                         .requestMatchers("/api/v1/user/for-user").hasAuthority("ROLE_USER")
+                        .requestMatchers("/api/v1/admin/**").hasAuthority("ROLE_ADMIN") // 관리자 API
+                        .requestMatchers("/api/v1/auth/introspect").hasAuthority("ROLE_SERVICE") // 내부 서비스 전용 (임의 토큰의 subject, role 노출)
 
                         // accessDeniedHandler에서 sendError의 경우 내부적인 `/error` 경로로 요청 처리
                         // `/error` 의 경우에도 인증 확인 절차가 이루어져 403 떠야하는 상황에 401 뜨는 것 방지하기 위해
@@ -66,12 +77,14 @@ public class SecurityConfig {
 
                 // OAuth2 로그인 설정
                 .oauth2Login(oauth2 -> oauth2
+                        .authorizationEndpoint(authorization -> authorization
+                                .authorizationRequestRepository(redisOAuth2AuthorizationRequestRepository)) // 인가 요청을 세션 대신 Redis 에 저장
                         .userInfoEndpoint(userInfo -> userInfo.userService(customOAuth2UserService)) // 커스텀 서비스 등록
                         .successHandler(oAuth2AuthenticationSuccessHandler) // 성공 handler
                         .failureHandler(oAuth2AuthenticationFailureHandler)) // 실패 handler
 
                 // JWT 필터 추가 ( 모든 요청에 대해 토큰 검사를 먼저 수행)
-                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider), UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, accessTokenRenewer), UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
@@ -82,6 +95,8 @@ public class SecurityConfig {
         configuration.setAllowedOrigins(List.of("http://localhost:3000")); // 프론트엔드 서버 주소 허용
         configuration.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS"));
         configuration.setAllowedHeaders(List.of("*")); // 모든 HTTP 헤더 허용
+        // sliding renewal 로 발급한 토큰, load shedding 거절 응답의 재시도 대기 시간을 브라우저에서 읽을 수 있도록
+        configuration.setExposedHeaders(List.of(AccessTokenRenewer.RENEWED_ACCESS_TOKEN_HEADER, HttpHeaders.RETRY_AFTER));
         configuration.setAllowCredentials(true); // 자격 증명(쿠키 등) 허용
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", configuration); // 모든 경로에 대해 위에서 정의한 CORS 설정을 적용
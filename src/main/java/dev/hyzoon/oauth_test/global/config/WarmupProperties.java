@@ -0,0 +1,15 @@
+package dev.hyzoon.oauth_test.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "warmup") // "warmup" 접두사를 가진 설정을 binding
+public class WarmupProperties {
+    private boolean enabled = true;
+    private int iterations = 200; // JIT 컴파일을 유도하기 위한 토큰 서명/검증 반복 횟수 (0 이면 1회만 수행)
+}
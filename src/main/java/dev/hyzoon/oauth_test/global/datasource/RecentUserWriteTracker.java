@@ -0,0 +1,74 @@
+package dev.hyzoon.oauth_test.global.datasource;
+
+import dev.hyzoon.oauth_test.global.config.DataSourceRoutingProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+// 최근에 정보가 변경된 사용자를 기록 (replica 복제 지연 대비)
+// 로그인 직후의 조회(예: 곧바로 이어지는 refresh)는 replica 에 아직 반영되지 않았을 수 있으므로 primary 에서 조회하도록 판단하는 용도
+// 다른 서버에서의 쓰기도 알 수 있도록 Redis 에 짧은 TTL 로 저장 (routing 미사용 시 아무것도 하지 않음)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecentUserWriteTracker {
+
+    private static final String KEY_PREFIX = "user_write:";
+
+    private final DataSourceRoutingProperties routingProperties;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public void markWritten(String email) {
+        if (!isRoutingEnabled()) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + email, "1", routingProperties.getPrimaryStickiness(), TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            log.warn("Failed to mark recent user write for {} - {}", email, e.getMessage());
+        }
+    }
+
+    // 일괄 등록 등 여러 사용자를 한 번에 기록 (한 번의 pipeline 으로 전송)
+    public void markWritten(Collection<String> emails) {
+        if (!isRoutingEnabled() || emails.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object execute(RedisOperations operations) {
+                    for (String email : emails) {
+                        operations.opsForValue().set(KEY_PREFIX + email, "1", routingProperties.getPrimaryStickiness(), TimeUnit.MILLISECONDS);
+                    }
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            log.warn("Failed to mark recent writes for {} users - {}", emails.size(), e.getMessage());
+        }
+    }
+
+    public boolean isRecentlyWritten(String email) {
+        if (!isRoutingEnabled()) {
+            return false;
+        }
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + email));
+        } catch (Exception e) {
+            // 판단할 수 없으면 안전하게 primary 사용
+            return true;
+        }
+    }
+
+    private boolean isRoutingEnabled() {
+        return routingProperties.isEnabled() && !routingProperties.getReplicas().isEmpty();
+    }
+}
@@ -0,0 +1,22 @@
+package dev.hyzoon.oauth_test.global.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 여러 replica DataSource 중 하나를 round-robin 으로 선택하는 routing DataSource
+// LazyConnectionDataSourceProxy 의 readOnlyDataSource 로 등록되어 read-only 트랜잭션에서만 사용됨
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final int replicaCount;
+    private final AtomicInteger counter = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(int replicaCount) {
+        this.replicaCount = replicaCount;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return Math.floorMod(counter.getAndIncrement(), replicaCount);
+    }
+}
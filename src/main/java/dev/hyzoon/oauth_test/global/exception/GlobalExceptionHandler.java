@@ -20,4 +20,13 @@ public class GlobalExceptionHandler {
                 .status(HttpStatus.UNAUTHORIZED) // 401 상태 코드
                 .body(Map.of("error", "Invalid Refresh Token", "message", ex.getMessage()));
     }
+
+    // InvalidImportFileException 예외를 처리
+    @ExceptionHandler(InvalidImportFileException.class)
+    public ResponseEntity<Map<String, String>> handleInvalidImportFileException(InvalidImportFileException ex) {
+        log.warn("Invalid user import file received: {}", ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST) // 400 상태 코드
+                .body(Map.of("error", "Invalid Import File", "message", ex.getMessage()));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package dev.hyzoon.oauth_test.global.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// 일괄 등록 파일 자체가 잘못된 경우 (필수 column 누락 등) HTTP 400 Bad Request 상태 코드를 응답하도록 지정
+// 행 단위 오류는 예외 없이 UserImportReportDto 의 errors 로 전달
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidImportFileException extends RuntimeException {
+    public InvalidImportFileException(String message) {
+        super(message);
+    }
+}
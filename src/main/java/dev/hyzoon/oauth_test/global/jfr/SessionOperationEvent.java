@@ -0,0 +1,27 @@
+package dev.hyzoon.oauth_test.global.jfr;
+
+import jdk.jfr.*;
+
+// RefreshTokenStore 의 Redis 세션 조회 / 저장 / 삭제 1회
+@Name(SessionOperationEvent.NAME)
+@Label("Session Operation")
+@Category({"OAuth Test", "Redis"})
+@Description("Refresh token session operation against Redis")
+@StackTrace(false)
+@Threshold("5 ms") // 요청마다 발생하므로 느린 경우만 기록
+public class SessionOperationEvent extends Event {
+
+    public static final String NAME = "dev.hyzoon.redis.SessionOperation";
+
+    // FIND, SAVE, DELETE
+    @Label("Operation")
+    public String operation;
+
+    // client tracking 캐시를 사용했는지 여부 (FIND)
+    @Label("Tracked")
+    public boolean tracked;
+
+    // FIND: 세션 존재 여부, DELETE: 삭제 여부
+    @Label("Found")
+    public boolean found;
+}
@@ -0,0 +1,17 @@
+package dev.hyzoon.oauth_test.global.jfr;
+
+import jdk.jfr.*;
+
+// JwtTokenProvider.generateTokenDto 의 Access / Refresh Token 서명 1회
+@Name(TokenIssuanceEvent.NAME)
+@Label("Token Issuance")
+@Category({"OAuth Test", "Auth"})
+@Description("Access and refresh token pair signing in JwtTokenProvider")
+@StackTrace(false)
+public class TokenIssuanceEvent extends Event {
+
+    public static final String NAME = "dev.hyzoon.auth.TokenIssuance";
+
+    @Label("Authorities")
+    public String authorities;
+}
@@ -0,0 +1,27 @@
+package dev.hyzoon.oauth_test.global.jfr;
+
+import jdk.jfr.*;
+
+// JwtAuthenticationFilter 의 Access Token 검증 1회
+@Name(TokenVerificationEvent.NAME)
+@Label("Token Verification")
+@Category({"OAuth Test", "Auth"})
+@Description("Access token verification in JwtAuthenticationFilter")
+@StackTrace(false)
+@Threshold("5 ms") // 요청마다 발생하므로 느린 경우만 기록
+public class TokenVerificationEvent extends Event {
+
+    public static final String NAME = "dev.hyzoon.auth.TokenVerification";
+
+    // ACCEPTED, MALFORMED (구조 검사 실패), CACHED_REJECT (negative cache), REJECTED (서명 / 만료 검증 실패)
+    @Label("Outcome")
+    public String outcome;
+
+    // sliding renewal 로 새 Access Token 을 발급했는지 여부
+    @Label("Renewed")
+    public boolean renewed;
+
+    @Label("Token Length")
+    @DataAmount(DataAmount.BYTES)
+    public int tokenLength;
+}
@@ -0,0 +1,21 @@
+package dev.hyzoon.oauth_test.global.jfr;
+
+import jdk.jfr.*;
+
+// UserRepository.findByEmail 호출 1회
+@Name(UserLookupEvent.NAME)
+@Label("User Lookup")
+@Category({"OAuth Test", "Database"})
+@Description("User lookup by email")
+@StackTrace(false)
+public class UserLookupEvent extends Event {
+
+    public static final String NAME = "dev.hyzoon.db.UserLookup";
+
+    // 조회를 수행한 흐름 (REFRESH, RENEWAL, OAUTH2_LOGIN)
+    @Label("Flow")
+    public String flow;
+
+    @Label("Found")
+    public boolean found;
+}
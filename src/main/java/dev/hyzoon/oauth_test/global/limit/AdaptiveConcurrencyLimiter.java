@@ -0,0 +1,87 @@
+package dev.hyzoon.oauth_test.global.limit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 관측한 응답 시간으로 동시 처리 한도를 조정하는 limiter (gradient 방식)
+// - longRtt: 부하가 없을 때의 기준 응답 시간 (긴 주기의 EWMA)
+// - shortRtt: 최근 응답 시간 (짧은 주기의 EWMA)
+// 최근 응답 시간이 기준보다 tolerance 배 이상 느려지면 한도를 줄이고, 그렇지 않으면 sqrt(limit) 만큼씩 늘림
+// Redis / MySQL 이 느려지면 대기열을 쌓는 대신 한도를 줄여 초과 요청을 빠르게 거절하도록 함
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double TOLERANCE = 1.5;
+    private static final double SMOOTHING = 0.2;
+    private static final double SHORT_RTT_WEIGHT = 0.1;
+    private static final double LONG_RTT_WEIGHT = 1.0 / 600;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile int limit;
+    private double estimatedLimit;
+    private double shortRtt;
+    private double longRtt;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.estimatedLimit = initialLimit;
+        this.limit = initialLimit;
+    }
+
+    // 한도의 capacityRatio 비율까지만 허용 (우선순위가 낮은 요청은 1보다 작은 값을 사용하여 여유분을 남김)
+    public boolean tryAcquire(double capacityRatio) {
+        int allowed = Math.max(1, (int) (limit * capacityRatio));
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    // tryAcquire 에 성공한 요청이 끝났을 때 호출
+    public void release(long rttNanos) {
+        int inFlightAtRelease = inFlight.getAndDecrement();
+        onSample(rttNanos, inFlightAtRelease);
+    }
+
+    private synchronized void onSample(long rttNanos, int inFlightAtRelease) {
+        if (longRtt == 0) {
+            shortRtt = rttNanos;
+            longRtt = rttNanos;
+            return;
+        }
+        shortRtt = shortRtt * (1 - SHORT_RTT_WEIGHT) + rttNanos * SHORT_RTT_WEIGHT;
+        longRtt = longRtt * (1 - LONG_RTT_WEIGHT) + rttNanos * LONG_RTT_WEIGHT;
+
+        // 부하가 해소된 뒤 기준 응답 시간이 과거의 느린 값에 머물지 않도록 빠르게 회복
+        if (longRtt / shortRtt > 2) {
+            longRtt *= 0.95;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longRtt / shortRtt));
+        double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        newLimit = estimatedLimit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+
+        // 한도의 절반도 사용하지 않는 상황에서는 한도를 늘리지 않음 (응답 시간이 느려진 경우 줄이는 것은 허용)
+        // 늘리지 않는 조건에서 감소까지 막으면 client 수가 한도의 절반보다 적을 때 응답 시간이 늘어나도 한도가 그대로 유지됨
+        if (newLimit > estimatedLimit && inFlightAtRelease < estimatedLimit / 2) {
+            return;
+        }
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        limit = (int) estimatedLimit;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
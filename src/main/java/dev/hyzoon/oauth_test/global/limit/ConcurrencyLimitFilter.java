@@ -0,0 +1,109 @@
+package dev.hyzoon.oauth_test.global.limit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.CorsConfigurationSource;
+import org.springframework.web.cors.CorsProcessor;
+import org.springframework.web.cors.CorsUtils;
+import org.springframework.web.cors.DefaultCorsProcessor;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Set;
+
+// 인증 관련 경로 앞에서 동시 처리 요청 수를 제한하고, 한도를 넘는 요청은 대기시키지 않고 바로 503 으로 거절 (load shedding)
+// Spring Security 필터 체인보다 먼저 실행되므로 거절되는 요청은 JWT 검증 등의 비용도 발생하지 않음
+// 단, Security 의 CORS 처리도 거치지 않으므로 거절 응답에는 직접 CORS 헤더를 추가 (브라우저가 CORS 오류 대신 503 을 받도록)
+@Slf4j
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final String RETRY_AFTER_SECONDS = "1";
+    private static final String REJECTED_BODY = "{\"error\":\"Service Unavailable\",\"message\":\"Too many concurrent requests, retry later.\"}";
+
+    // Redis / MySQL 을 거치는 로그인 관련 요청 (한도의 일부만 사용하도록 하여 우선순위가 높은 요청의 여유분을 남김)
+    private static final Set<String> AUTH_PATHS = Set.of("/api/v1/auth/token", "/api/v1/auth/refresh");
+    private static final String OAUTH2_CALLBACK_PREFIX = "/login/oauth2/code/";
+    private static final double AUTH_CAPACITY_RATIO = 0.8;
+
+    // 인증된 사용자의 조회 요청 (한도 전체 사용 가능)
+    private static final Set<String> PRIORITY_PATHS = Set.of("/api/v1/user/me");
+    private static final double PRIORITY_CAPACITY_RATIO = 1.0;
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final CorsConfigurationSource corsConfigurationSource;
+    private final CorsProcessor corsProcessor = new DefaultCorsProcessor();
+    private final Counter rejectedAuthCounter;
+    private final Counter rejectedPriorityCounter;
+
+    public ConcurrencyLimitFilter(AdaptiveConcurrencyLimiter limiter,
+                                  CorsConfigurationSource corsConfigurationSource,
+                                  MeterRegistry meterRegistry) {
+        this.limiter = limiter;
+        this.corsConfigurationSource = corsConfigurationSource;
+        Gauge.builder("auth.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit).register(meterRegistry);
+        Gauge.builder("auth.concurrency.in.flight", limiter, AdaptiveConcurrencyLimiter::getInFlight).register(meterRegistry);
+        this.rejectedAuthCounter = Counter.builder("auth.concurrency.rejected").tag("class", "auth").register(meterRegistry);
+        this.rejectedPriorityCounter = Counter.builder("auth.concurrency.rejected").tag("class", "priority").register(meterRegistry);
+    }
+
+    // 제한 대상이 아닌 경로와 CORS preflight 요청은 필터를 거치지 않도록
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return capacityRatioOf(request.getServletPath()) == 0 || CorsUtils.isPreFlightRequest(request);
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+
+        double capacityRatio = capacityRatioOf(request.getServletPath());
+        if (!limiter.tryAcquire(capacityRatio)) {
+            (capacityRatio < PRIORITY_CAPACITY_RATIO ? rejectedAuthCounter : rejectedPriorityCounter).increment();
+            reject(request, response);
+            return;
+        }
+
+        long startNanos = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            limiter.release(System.nanoTime() - startNanos);
+        }
+    }
+
+    // 경로별 사용 가능한 한도 비율 (0 = 제한 대상 아님)
+    private static double capacityRatioOf(String path) {
+        if (AUTH_PATHS.contains(path) || path.startsWith(OAUTH2_CALLBACK_PREFIX)) {
+            return AUTH_CAPACITY_RATIO;
+        }
+        if (PRIORITY_PATHS.contains(path)) {
+            return PRIORITY_CAPACITY_RATIO;
+        }
+        return 0;
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        // SecurityConfig 와 같은 CORS 설정 적용 (Access-Control-Allow-Origin, Expose-Headers 등)
+        CorsConfiguration corsConfiguration = corsConfigurationSource.getCorsConfiguration(request);
+        if (corsConfiguration != null && !corsProcessor.processRequest(corsConfiguration, request, response)) {
+            return; // 허용되지 않은 origin 은 CORS processor 가 403 으로 응답
+        }
+
+        response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write(REJECTED_BODY);
+    }
+}
@@ -0,0 +1,130 @@
+package dev.hyzoon.oauth_test.global.warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.hyzoon.oauth_test.auth.JwtTokenProvider;
+import dev.hyzoon.oauth_test.auth.RefreshTokenStore;
+import dev.hyzoon.oauth_test.auth.dto.JwtTokenDto;
+import dev.hyzoon.oauth_test.global.config.WarmupProperties;
+import dev.hyzoon.oauth_test.user.UserRepository;
+import dev.hyzoon.oauth_test.user.domain.UserRole;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.env.Environment;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// 배포 직후 첫 요청들이 lazy 초기화 비용(JCA provider 조회, jjwt / Jackson 초기화, Hibernate query plan 컴파일,
+// Lettuce 연결, DispatcherServlet 및 Security 필터 체인 초기화 등)을 부담하지 않도록 미리 한 번씩 실행
+// ApplicationRunner 는 ApplicationReadyEvent 이전에 실행되므로, warm-up 이 끝난 뒤에야 readiness 가 ACCEPTING_TRAFFIC 으로 바뀜
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StartupWarmup implements ApplicationRunner {
+
+    private static final String WARMUP_EMAIL = "warmup@localhost";
+
+    private final WarmupProperties warmupProperties;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final ObjectMapper objectMapper;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RefreshTokenStore refreshTokenStore;
+    private final UserRepository userRepository;
+    private final Environment environment;
+    private final RestClient.Builder restClientBuilder;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!warmupProperties.isEnabled()) {
+            return;
+        }
+
+        long startNanos = System.nanoTime();
+        JwtTokenDto jwtTokenDto = runStep("jwt", this::warmUpJwt);
+        runStep("redis", this::warmUpRedis);
+        runStep("repository", this::warmUpRepository);
+        if (jwtTokenDto != null) {
+            runStep("http", () -> warmUpHttp(jwtTokenDto));
+        }
+        long elapsedNanos = System.nanoTime() - startNanos;
+
+        Timer.builder("app.warmup").register(meterRegistry).record(elapsedNanos, TimeUnit.NANOSECONDS);
+        log.info("Startup warm-up completed in {} ms", TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+    }
+
+    // 토큰 서명/검증 및 JSON 직렬화 (iterations 만큼 반복하여 JIT 컴파일 유도)
+    private JwtTokenDto warmUpJwt() throws Exception {
+        JwtTokenDto jwtTokenDto = null;
+        int iterations = Math.max(1, warmupProperties.getIterations());
+        for (int i = 0; i < iterations; i++) {
+            jwtTokenDto = jwtTokenProvider.generateTokenDto(WARMUP_EMAIL, UserRole.GUEST.getCode());
+            jwtTokenProvider.validateToken(jwtTokenDto.getAccessToken());
+            jwtTokenProvider.getAuthentication(jwtTokenDto.getAccessToken());
+            jwtTokenProvider.getVerifiedClaims(jwtTokenDto.getRefreshToken());
+            objectMapper.readValue(objectMapper.writeValueAsString(jwtTokenDto), JwtTokenDto.class);
+        }
+        return jwtTokenDto;
+    }
+
+    // Lettuce 연결 수립 및 client tracking 연결 사용
+    private Void warmUpRedis() {
+        String key = "warmup:" + UUID.randomUUID();
+        redisTemplate.opsForValue().set(key, "1", 10, TimeUnit.SECONDS);
+        redisTemplate.opsForValue().get(key);
+        redisTemplate.delete(key);
+        refreshTokenStore.find(WARMUP_EMAIL);
+        return null;
+    }
+
+    // 커넥션 풀 초기화 및 자주 사용하는 query 의 plan 컴파일
+    private Void warmUpRepository() {
+        userRepository.findByEmail(WARMUP_EMAIL);
+        userRepository.findPageAfter(Long.MAX_VALUE, Long.MAX_VALUE, null, null, null, Limit.of(1));
+        LocalDateTime now = LocalDateTime.now();
+        userRepository.findIdRangeCreatedBetween(now, now);
+        return null;
+    }
+
+    // 자기 자신에게 인증된 요청을 보내 DispatcherServlet, Security 필터 체인, message converter 초기화
+    private Void warmUpHttp(JwtTokenDto jwtTokenDto) {
+        String port = environment.getProperty("local.server.port");
+        if (port == null) {
+            return null;
+        }
+        restClientBuilder.build().get()
+                .uri("http://localhost:" + port + "/api/v1/user/me")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtTokenDto.getAccessToken())
+                .retrieve()
+                .toBodilessEntity();
+        return null;
+    }
+
+    // 각 단계의 실패는 기동을 막지 않고 로그만 남김 (warm-up 은 최적화 용도)
+    private <T> T runStep(String name, WarmupStep<T> step) {
+        long startNanos = System.nanoTime();
+        try {
+            T result = step.run();
+            log.info("Warm-up step '{}' took {} ms", name, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+            return result;
+        } catch (Exception e) {
+            log.warn("Warm-up step '{}' failed - {}", name, e.getMessage());
+            return null;
+        }
+    }
+
+    @FunctionalInterface
+    private interface WarmupStep<T> {
+        T run() throws Exception;
+    }
+}
@@ -1,5 +1,8 @@
 package dev.hyzoon.oauth_test.oauth;
 
+import dev.hyzoon.oauth_test.global.datasource.RecentUserWriteTracker;
+import dev.hyzoon.oauth_test.global.jfr.UserLookupEvent;
+import dev.hyzoon.oauth_test.oauth.dto.GithubUserInfo;
 import dev.hyzoon.oauth_test.oauth.dto.OAuth2UserInfo;
 import dev.hyzoon.oauth_test.user.UserRepository;
 import dev.hyzoon.oauth_test.user.domain.User;
@@ -12,8 +15,12 @@ import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
 import org.springframework.security.oauth2.core.user.DefaultOAuth2User;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
 
 @RequiredArgsConstructor
 @Service
@@ -21,6 +28,9 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
     private final UserRepository userRepository;
     private final OAuth2UserInfoFactory userInfoFactory;
+    private final GithubEmailResolver githubEmailResolver;
+    private final TransactionTemplate transactionTemplate;
+    private final RecentUserWriteTracker recentUserWriteTracker;
 
     @Override
     public OAuth2User loadUser(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
@@ -30,12 +40,20 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
         // oauth factory 를 사용하여 provider 별 user info 가져오기
         OAuth2UserInfo oAuth2UserInfo = userInfoFactory.getOAuth2UserInfo(registrationId, oAuth2User.getAttributes());
+        if (oAuth2UserInfo.getEmail() == null && oAuth2UserInfo instanceof GithubUserInfo) {
+            // email 을 비공개로 설정한 GitHub 사용자는 `/user/emails` API 로 primary email 을 조회
+            oAuth2UserInfo = resolveGithubEmail(userRequest, oAuth2UserInfo);
+        }
         if (oAuth2UserInfo.getEmail() == null) {
             throw new OAuth2AuthenticationException("Email not found from OAuth2 provider.");
         }
 
         // 사용자 정보 DB 저장 또는 업데이트
-        User user = saveOrUpdate(oAuth2UserInfo);
+        // 조회와 저장을 하나의 read-write 트랜잭션(primary)에서 수행 (replica 의 지연된 데이터로 중복 생성하지 않도록)
+        // provider 호출 동안에는 DB connection 을 점유하지 않도록 이 구간만 트랜잭션으로 묶음
+        OAuth2UserInfo userInfo = oAuth2UserInfo;
+        User user = transactionTemplate.execute(status -> saveOrUpdate(userInfo));
+        recentUserWriteTracker.markWritten(user.getEmail());
 
         // Spring Security가 사용할 최종 OAuth2User 객체 생성 및 반환
 //        String userNameAttributeName = userRequest.getClientRegistration()
@@ -48,8 +66,28 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
         );
     }
 
+    private OAuth2UserInfo resolveGithubEmail(OAuth2UserRequest userRequest, OAuth2UserInfo oAuth2UserInfo) {
+        String email = githubEmailResolver.resolvePrimaryEmail(
+                oAuth2UserInfo.getProviderId(), userRequest.getAccessToken().getTokenValue());
+        if (email == null) {
+            return oAuth2UserInfo;
+        }
+
+        // 원본 attributes 는 수정 불가능하므로 복사 후 email 을 채워 넣음 (DefaultOAuth2User 의 name attribute 로 사용)
+        Map<String, Object> attributes = new LinkedHashMap<>(oAuth2UserInfo.getAttributes());
+        attributes.put("email", email);
+        return new GithubUserInfo(attributes);
+    }
+
     private User saveOrUpdate(OAuth2UserInfo oAuth2UserInfo) {
-        User user = userRepository.findByEmail(oAuth2UserInfo.getEmail())
+        UserLookupEvent lookupEvent = new UserLookupEvent();
+        lookupEvent.begin();
+        Optional<User> foundUser = userRepository.findByEmail(oAuth2UserInfo.getEmail());
+        lookupEvent.flow = "OAUTH2_LOGIN";
+        lookupEvent.found = foundUser.isPresent();
+        lookupEvent.commit();
+
+        User user = foundUser
                 .map(entity -> entity.update(oAuth2UserInfo.getName(), oAuth2UserInfo.getPicture())) // 사용자가 DB에 존재하는 경우 (최신 정보로 업데이트)
                 .orElseGet(() -> createUser(oAuth2UserInfo)); // 사용자가 DB에 존재하지 않는 경우
         return userRepository.save(user);
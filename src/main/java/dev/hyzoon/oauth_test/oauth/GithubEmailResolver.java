@@ -0,0 +1,102 @@
+package dev.hyzoon.oauth_test.oauth;
+
+import dev.hyzoon.oauth_test.global.config.GithubProperties;
+import dev.hyzoon.oauth_test.oauth.dto.GithubEmailDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// email 을 비공개로 설정한 GitHub 사용자의 primary & verified email 을 `/user/emails` API 로 조회
+// 조회 결과는 providerId 별로 Redis 에 짧게 캐싱하여 재로그인 시 추가 호출을 생략
+@Slf4j
+@Component
+public class GithubEmailResolver {
+
+    private static final String CACHE_KEY_PREFIX = "github_email:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final GithubProperties githubProperties;
+    private final RestClient restClient;
+
+    public GithubEmailResolver(RedisTemplate<String, String> redisTemplate,
+                               GithubProperties githubProperties,
+                               RestClient.Builder restClientBuilder) {
+        this.redisTemplate = redisTemplate;
+        this.githubProperties = githubProperties;
+
+        // 호출은 로그인 요청 thread 에서 동기로 수행하고, connect + read timeout 의 합이 emailTimeout 이 되도록 나누어 대기 시간을 제한
+        // 단, read timeout 은 socket read 1회마다 적용되므로 전체 호출 시간의 엄격한 상한은 아님
+        // (응답 본문을 아주 느리게 나누어 보내는 경우 더 길어질 수 있으나, GitHub 의 응답은 작은 JSON 이라 보통 한두 번의 read 로 끝남)
+        int connectTimeout = (int) (githubProperties.getEmailTimeout() / 2);
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(connectTimeout);
+        requestFactory.setReadTimeout((int) githubProperties.getEmailTimeout() - connectTimeout);
+        this.restClient = restClientBuilder.requestFactory(requestFactory).build();
+    }
+
+    // providerId 에 해당하는 사용자의 email 을 조회 (캐시 -> API 순)
+    // 조회 실패 또는 timeout 의 경우 null 반환
+    public String resolvePrimaryEmail(String providerId, String accessToken) {
+        String cacheKey = CACHE_KEY_PREFIX + providerId;
+        String cachedEmail = getCachedEmail(cacheKey);
+        if (cachedEmail != null) {
+            return cachedEmail;
+        }
+
+        String email = fetchPrimaryVerifiedEmail(accessToken);
+        if (email != null) {
+            cacheEmail(cacheKey, email);
+        }
+        return email;
+    }
+
+    // 캐시는 추가 호출을 줄이기 위한 용도이므로 Redis 오류 시에도 로그인은 API 조회로 계속 진행
+    private String getCachedEmail(String cacheKey) {
+        try {
+            return redisTemplate.opsForValue().get(cacheKey);
+        } catch (DataAccessException e) {
+            log.warn("Failed to read cached GitHub email - {}", e.toString());
+            return null;
+        }
+    }
+
+    private void cacheEmail(String cacheKey, String email) {
+        try {
+            redisTemplate.opsForValue().set(cacheKey, email, githubProperties.getEmailCacheExpiry(), TimeUnit.MILLISECONDS);
+        } catch (DataAccessException e) {
+            log.warn("Failed to cache GitHub email - {}", e.toString());
+        }
+    }
+
+    private String fetchPrimaryVerifiedEmail(String accessToken) {
+        List<GithubEmailDto> emails;
+        try {
+            emails = restClient.get()
+                    .uri(githubProperties.getEmailsUri())
+                    .headers(headers -> headers.setBearerAuth(accessToken))
+                    .retrieve()
+                    .body(new ParameterizedTypeReference<>() {
+                    });
+        } catch (RestClientException e) {
+            log.warn("Failed to resolve GitHub email - {}", e.toString());
+            return null;
+        }
+        if (emails == null) {
+            return null;
+        }
+        return emails.stream()
+                .filter(GithubEmailDto::isPrimary)
+                .filter(GithubEmailDto::isVerified)
+                .map(GithubEmailDto::getEmail)
+                .findFirst()
+                .orElse(null);
+    }
+}
@@ -0,0 +1,85 @@
+package dev.hyzoon.oauth_test.oauth;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.security.oauth2.client.web.AuthorizationRequestRepository;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.security.oauth2.core.endpoint.OAuth2ParameterNames;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.*;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+// OAuth2 인가 요청(OAuth2AuthorizationRequest)을 HTTP 세션 대신 Redis 에 저장하는 repository
+// 기본 구현(HttpSessionOAuth2AuthorizationRequestRepository)은 세션을 생성하므로 GitHub callback 이 같은 서버로 돌아와야 함 (sticky session 필요)
+// `state` 파라미터를 key 로 사용하므로 callback 이 어느 서버에 도착하더라도 인가 요청을 복원할 수 있음
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisOAuth2AuthorizationRequestRepository implements AuthorizationRequestRepository<OAuth2AuthorizationRequest> {
+
+    private static final String KEY_PREFIX = "oauth2_auth_request:";
+    private static final long AUTHORIZATION_REQUEST_EXPIRY = 180000; // 3분 (ms), GitHub 로그인 화면에서 머무를 수 있는 시간
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Override
+    public OAuth2AuthorizationRequest loadAuthorizationRequest(HttpServletRequest request) {
+        String state = request.getParameter(OAuth2ParameterNames.STATE);
+        if (!StringUtils.hasText(state)) {
+            return null;
+        }
+        return deserialize(redisTemplate.opsForValue().get(KEY_PREFIX + state));
+    }
+
+    @Override
+    public void saveAuthorizationRequest(OAuth2AuthorizationRequest authorizationRequest,
+                                         HttpServletRequest request,
+                                         HttpServletResponse response) {
+        if (authorizationRequest == null) {
+            removeAuthorizationRequest(request, response);
+            return;
+        }
+        String key = KEY_PREFIX + authorizationRequest.getState();
+        redisTemplate.opsForValue().set(key, serialize(authorizationRequest), AUTHORIZATION_REQUEST_EXPIRY, TimeUnit.MILLISECONDS);
+    }
+
+    // callback 처리 시 1회만 사용될 수 있도록 조회와 동시에 삭제 (GETDEL)
+    @Override
+    public OAuth2AuthorizationRequest removeAuthorizationRequest(HttpServletRequest request, HttpServletResponse response) {
+        String state = request.getParameter(OAuth2ParameterNames.STATE);
+        if (!StringUtils.hasText(state)) {
+            return null;
+        }
+        return deserialize(redisTemplate.opsForValue().getAndDelete(KEY_PREFIX + state));
+    }
+
+    // OAuth2AuthorizationRequest 는 Serializable 이므로 Java 직렬화 후 Base64 문자열로 저장
+    private static String serialize(OAuth2AuthorizationRequest authorizationRequest) {
+        try (ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+             ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(authorizationRequest);
+            out.flush();
+            return Base64.getEncoder().encodeToString(bytes.toByteArray());
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to serialize OAuth2 authorization request", e);
+        }
+    }
+
+    private static OAuth2AuthorizationRequest deserialize(String value) {
+        if (value == null) {
+            return null;
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(Base64.getDecoder().decode(value)))) {
+            return (OAuth2AuthorizationRequest) in.readObject();
+        } catch (IOException | ClassNotFoundException | IllegalArgumentException | ClassCastException e) {
+            log.warn("Failed to deserialize OAuth2 authorization request - {}", e.getMessage());
+            return null;
+        }
+    }
+}
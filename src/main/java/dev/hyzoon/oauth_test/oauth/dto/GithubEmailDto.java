@@ -0,0 +1,13 @@
+package dev.hyzoon.oauth_test.oauth.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// GitHub `/user/emails` API 응답의 각 항목
+@Getter
+@NoArgsConstructor
+public class GithubEmailDto {
+    private String email;
+    private boolean primary;
+    private boolean verified;
+}
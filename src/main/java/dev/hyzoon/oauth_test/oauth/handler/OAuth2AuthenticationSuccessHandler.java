@@ -1,7 +1,11 @@
 package dev.hyzoon.oauth_test.oauth.handler;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.hyzoon.oauth_test.audit.LoginAuditPublisher;
+import dev.hyzoon.oauth_test.audit.domain.LoginEventType;
+import dev.hyzoon.oauth_test.audit.dto.ClientInfoDto;
 import dev.hyzoon.oauth_test.auth.JwtTokenProvider;
+import dev.hyzoon.oauth_test.auth.RefreshTokenStore;
 import dev.hyzoon.oauth_test.auth.dto.JwtTokenDto;
 import dev.hyzoon.oauth_test.global.config.JwtProperties;
 import jakarta.servlet.http.HttpServletRequest;
@@ -12,6 +16,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.security.web.authentication.SimpleUrlAuthenticationSuccessHandler;
 import org.springframework.stereotype.Component;
@@ -31,8 +36,10 @@ public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationS
 
     private final JwtTokenProvider jwtTokenProvider;
     private final RedisTemplate<String, String> redisTemplate;
+    private final RefreshTokenStore refreshTokenStore;
     private final JwtProperties jwtProperties;
     private final ObjectMapper objectMapper;
+    private final LoginAuditPublisher loginAuditPublisher;
 
     // @SneakyThrows = ObjectMapper로 객체를 JSON 문자열로 바꾸는 과정에서 `JsonProcessingException` 이라는 Checked Exception을 던질 수 있는데 이의 발생을 무시
     @SneakyThrows
@@ -57,9 +64,14 @@ public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationS
 
         // Refresh Token 을 이메일과 함께 Redis에 저장 (긴 만료 시간)
         long refreshTokenExpiry = jwtProperties.getRefreshTokenExpiry();
-        redisTemplate.opsForValue().set(email, jwtTokenDto.getRefreshToken(), refreshTokenExpiry, TimeUnit.MILLISECONDS);
+        refreshTokenStore.save(email, jwtTokenDto.getRefreshToken(), refreshTokenExpiry);
         log.info("Permanent Refresh Token stored in Redis for {}. TTL: {}s", email, refreshTokenExpiry / 1000);
 
+        // 로그인 이력은 Redis Stream 에 추가만 하고 DB 저장은 LoginAuditWorker 가 비동기로 처리
+        String provider = authentication instanceof OAuth2AuthenticationToken oAuth2Token
+                ? oAuth2Token.getAuthorizedClientRegistrationId() : null;
+        loginAuditPublisher.publish(LoginEventType.LOGIN, email, provider, ClientInfoDto.from(request));
+
         // 프론트엔드로는 임시 코드만 포함하여 redirection
         String targetUrl = createRedirectUrl(authCode);
         getRedirectStrategy().sendRedirect(request, response, targetUrl);
@@ -0,0 +1,94 @@
+package dev.hyzoon.oauth_test.user;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.hyzoon.oauth_test.user.domain.UserRole;
+import dev.hyzoon.oauth_test.user.dto.AdminUserDto;
+import dev.hyzoon.oauth_test.user.dto.UserImportReportDto;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 관리자용 사용자 조회 API (ROLE_ADMIN 필요)
+@RestController
+@RequestMapping("/api/v1/admin/users")
+@RequiredArgsConstructor
+public class AdminUserController {
+
+    private static final byte[] NEW_LINE = {'\n'};
+
+    private final AdminUserService adminUserService;
+    private final UserImportService userImportService;
+    private final ObjectMapper objectMapper;
+
+    // keyset pagination: 응답의 nextCursor 를 다음 요청의 after 로 전달 (마지막 페이지면 nextCursor = null)
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> getUsers(
+            @RequestParam(defaultValue = "0") long after,
+            @RequestParam(defaultValue = "" + AdminUserService.DEFAULT_PAGE_SIZE) int size,
+            @RequestParam(required = false) UserRole role,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo
+    ) {
+        List<AdminUserDto> users = adminUserService.getUsers(after, role, createdFrom, createdTo, size);
+        boolean hasNext = users.size() == AdminUserService.pageSizeOf(size);
+
+        Map<String, Object> body = new HashMap<>();
+        body.put("users", users);
+        body.put("nextCursor", hasNext ? users.get(users.size() - 1).getId() : null);
+        return ResponseEntity.ok(body);
+    }
+
+    // 전체 export (NDJSON, 한 줄에 사용자 한 명)
+    // chunk 단위로 조회하여 바로 응답 stream 에 쓰므로 사용자 수와 무관하게 메모리 사용량이 일정
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> exportUsers(
+            @RequestParam(required = false) UserRole role,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo
+    ) {
+        StreamingResponseBody body = outputStream -> adminUserService.exportUsers(role, createdFrom, createdTo, chunk -> {
+            try {
+                for (AdminUserDto user : chunk) {
+                    outputStream.write(objectMapper.writeValueAsBytes(user));
+                    outputStream.write(NEW_LINE);
+                }
+                outputStream.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
+    }
+
+    // 사용자 일괄 등록 (email 기준 upsert)
+    // body 를 한 번에 읽지 않고 stream 으로 한 줄씩 처리 (Content-Type: text/csv 또는 application/x-ndjson)
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<UserImportReportDto> importUsers(HttpServletRequest request) throws IOException {
+        UserImportService.Format format = MediaType.parseMediaType(request.getContentType())
+                .isCompatibleWith(MediaType.parseMediaType("text/csv"))
+                ? UserImportService.Format.CSV : UserImportService.Format.NDJSON;
+
+        try (InputStreamReader reader = new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8)) {
+            return ResponseEntity.ok(userImportService.importUsers(reader, format));
+        }
+    }
+}
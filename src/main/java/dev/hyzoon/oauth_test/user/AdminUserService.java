@@ -0,0 +1,79 @@
+package dev.hyzoon.oauth_test.user;
+
+import dev.hyzoon.oauth_test.user.domain.UserRole;
+import dev.hyzoon.oauth_test.user.dto.AdminUserDto;
+import dev.hyzoon.oauth_test.user.dto.UserIdRangeDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+@Service
+@RequiredArgsConstructor
+public class AdminUserService {
+
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 500;
+    private static final int EXPORT_CHUNK_SIZE = 1000;
+
+    private final UserRepository userRepository;
+
+    // afterId 이후의 사용자를 id 순으로 size 만큼 조회
+    public List<AdminUserDto> getUsers(long afterId, UserRole role, LocalDateTime createdFrom, LocalDateTime createdTo, int size) {
+        Optional<IdRange> idRange = resolveIdRange(createdFrom, createdTo);
+        if (idRange.isEmpty()) {
+            return List.of();
+        }
+        return userRepository.findPageAfter(Math.max(afterId, idRange.get().afterId()), idRange.get().maxId(),
+                role, createdFrom, createdTo, Limit.of(pageSizeOf(size)));
+    }
+
+    // 요청한 페이지 크기를 1 ~ MAX_PAGE_SIZE 범위로 제한
+    public static int pageSizeOf(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    // 전체 사용자를 chunk 단위 keyset 조회로 순회 (한 번에 최대 EXPORT_CHUNK_SIZE 건만 메모리에 유지)
+    public void exportUsers(UserRole role, LocalDateTime createdFrom, LocalDateTime createdTo, Consumer<List<AdminUserDto>> chunkConsumer) {
+        Optional<IdRange> idRange = resolveIdRange(createdFrom, createdTo);
+        if (idRange.isEmpty()) {
+            return;
+        }
+
+        long afterId = idRange.get().afterId();
+        while (true) {
+            List<AdminUserDto> chunk = userRepository.findPageAfter(afterId, idRange.get().maxId(),
+                    role, createdFrom, createdTo, Limit.of(EXPORT_CHUNK_SIZE));
+            if (chunk.isEmpty()) {
+                return;
+            }
+            chunkConsumer.accept(chunk);
+            if (chunk.size() < EXPORT_CHUNK_SIZE) {
+                return;
+            }
+            afterId = chunk.get(chunk.size() - 1).getId();
+        }
+    }
+
+    // 생성 기간 [createdFrom, createdTo) 의 사용자를 모두 포함하는 id 범위 (afterId, maxId] 를 구함
+    // created_at 조건만으로는 id 순 정렬과 함께 index 하나로 처리할 수 없어 깊은 페이지일수록 느려지므로, 이 범위로 PK seek 후
+    // created_at 조건은 범위 안의 행에만 확인 (id 와 생성 시각의 순서가 어긋나도 결과는 정확)
+    // 기간에 해당하는 사용자가 없으면 empty
+    private Optional<IdRange> resolveIdRange(LocalDateTime createdFrom, LocalDateTime createdTo) {
+        if (createdFrom == null && createdTo == null) {
+            return Optional.of(new IdRange(0, Long.MAX_VALUE));
+        }
+        UserIdRangeDto range = userRepository.findIdRangeCreatedBetween(createdFrom, createdTo);
+        if (range == null || range.getMinId() == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new IdRange(range.getMinId() - 1, range.getMaxId()));
+    }
+
+    private record IdRange(long afterId, long maxId) {
+    }
+}
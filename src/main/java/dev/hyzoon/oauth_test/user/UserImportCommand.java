@@ -0,0 +1,75 @@
+package dev.hyzoon.oauth_test.user;
+
+import dev.hyzoon.oauth_test.user.dto.UserImportReportDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+
+// 명령행에서 사용자 일괄 등록 후 종료
+// 사용법: java -jar oauth-test.jar --import-users=users.csv (.ndjson / .jsonl 확장자는 NDJSON 으로 처리)
+// web server, scheduler (login audit worker), warm-up 없이 실행 (OauthTestApplication.main 에서 설정)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserImportCommand implements ApplicationRunner {
+
+    private static final String OPTION_NAME = "import-users";
+
+    // 명령 실행 시 application.yml, 명령행 인자 등의 설정보다 우선 적용
+    private static final Map<String, Object> COMMAND_PROPERTIES = Map.of(
+            "warmup.enabled", false,
+            "scheduling.enabled", false
+    );
+
+    private final UserImportService userImportService;
+    private final ConfigurableApplicationContext applicationContext;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        if (!args.containsOption(OPTION_NAME) || args.getOptionValues(OPTION_NAME).isEmpty()) {
+            return;
+        }
+
+        Path path = Path.of(args.getOptionValues(OPTION_NAME).get(0));
+        String fileName = path.getFileName().toString().toLowerCase();
+        UserImportService.Format format = fileName.endsWith(".ndjson") || fileName.endsWith(".jsonl")
+                ? UserImportService.Format.NDJSON : UserImportService.Format.CSV;
+
+        UserImportReportDto report;
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            report = userImportService.importUsers(reader, format);
+        }
+        report.getErrors().forEach(error -> log.warn("line {}: {}", error.getLine(), error.getMessage()));
+
+        // 실패한 행이 있으면 종료 코드 1
+        int exitCode = SpringApplication.exit(applicationContext, () -> report.getFailed() > 0 ? 1 : 0);
+        System.exit(exitCode);
+    }
+
+    // --import-users 로 실행된 경우 web server 를 띄우지 않고 warm-up, scheduler 를 비활성화
+    public static void configure(SpringApplication application, String[] args) {
+        if (!isRequested(args)) {
+            return;
+        }
+        application.setWebApplicationType(WebApplicationType.NONE);
+        application.addInitializers(context -> context.getEnvironment().getPropertySources()
+                .addFirst(new MapPropertySource("userImportCommand", COMMAND_PROPERTIES)));
+    }
+
+    static boolean isRequested(String[] args) {
+        return Arrays.stream(args).anyMatch(arg -> arg.startsWith("--" + OPTION_NAME + "="));
+    }
+}
@@ -0,0 +1,274 @@
+package dev.hyzoon.oauth_test.user;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.hyzoon.oauth_test.global.datasource.RecentUserWriteTracker;
+import dev.hyzoon.oauth_test.global.exception.InvalidImportFileException;
+import dev.hyzoon.oauth_test.user.domain.UserRole;
+import dev.hyzoon.oauth_test.user.dto.UserImportReportDto;
+import dev.hyzoon.oauth_test.user.dto.UserImportReportDto.RowError;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// 조직 단위 온보딩을 위한 사용자 일괄 등록 (첫 GitHub 로그인 전에 role 을 미리 지정)
+// - 입력을 한 줄씩 읽어 BATCH_SIZE 단위로만 메모리에 유지 (입력 크기와 무관하게 메모리 사용량 일정)
+// - User 는 IDENTITY 전략이라 JPA 로는 insert batch 가 불가능하므로 JDBC batch 로 직접 저장
+//   (rewriteBatchedStatements=true 설정 시 multi-row INSERT 로 전송됨)
+// - email unique index 기준으로 upsert (이미 존재하면 입력에 포함된 name, role, picture 만 갱신)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserImportService {
+
+    public enum Format {
+        CSV, NDJSON
+    }
+
+    private static final int BATCH_SIZE = 1000;
+    private static final int MAX_REPORTED_ERRORS = 1000;
+    private static final int MAX_EMAIL_LENGTH = 255;
+
+    // 기본값 (role = GUEST, name = email local part) 은 새로 추가되는 사용자에만 적용하고,
+    // 기존 사용자는 입력에 포함된 컬럼만 갱신하도록 name / role 지정 여부 조합별로 SQL 을 구분
+    // (ON DUPLICATE KEY UPDATE 절에 placeholder 가 있으면 rewriteBatchedStatements 의 multi-row INSERT 변환이 되지 않으므로 VALUES() 만 사용)
+    private static final String INSERT_SQL =
+            "INSERT INTO user (email, name, picture, role, created_at) VALUES (?, ?, ?, ?, ?) " +
+                    "ON DUPLICATE KEY UPDATE picture = COALESCE(VALUES(picture), picture)";
+    private static final String[] UPSERT_SQL = {
+            INSERT_SQL,
+            INSERT_SQL + ", role = VALUES(role)",
+            INSERT_SQL + ", name = VALUES(name)",
+            INSERT_SQL + ", name = VALUES(name), role = VALUES(role)"
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final RecentUserWriteTracker recentUserWriteTracker;
+
+    public UserImportReportDto importUsers(Reader reader, Format format) throws IOException {
+        long startMillis = System.currentTimeMillis();
+        ImportContext context = new ImportContext();
+
+        BufferedReader bufferedReader = reader instanceof BufferedReader br ? br : new BufferedReader(reader);
+        List<String> csvHeader = null;
+        long lineNumber = 0;
+        String line;
+        while ((line = bufferedReader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            if (format == Format.CSV && csvHeader == null) {
+                csvHeader = parseCsvLine(line).stream().map(column -> column.trim().toLowerCase(Locale.ROOT)).toList();
+                if (!csvHeader.contains("email")) {
+                    throw new InvalidImportFileException("CSV header must contain an 'email' column.");
+                }
+                continue;
+            }
+
+            context.processed++;
+            try {
+                Map<String, String> fields = format == Format.CSV ? toCsvFields(csvHeader, line) : toJsonFields(line);
+                context.batch.add(toRow(lineNumber, fields));
+            } catch (IllegalArgumentException e) {
+                context.fail(lineNumber, e.getMessage());
+            }
+
+            if (context.batch.size() >= BATCH_SIZE) {
+                flush(context);
+            }
+        }
+        flush(context);
+
+        long elapsedMillis = System.currentTimeMillis() - startMillis;
+        log.info("User import finished. processed={} upserted={} failed={} elapsed={}ms",
+                context.processed, context.upserted, context.failed, elapsedMillis);
+        return new UserImportReportDto(context.processed, context.upserted, context.failed, context.errors, elapsedMillis);
+    }
+
+    private void flush(ImportContext context) {
+        if (context.batch.isEmpty()) {
+            return;
+        }
+
+        // 갱신할 컬럼 조합이 같은 행끼리 모아 batch 로 저장 (대부분의 입력은 모든 행의 컬럼 구성이 같으므로 batch 1개)
+        Map<Integer, List<ImportRow>> rowsBySql = new LinkedHashMap<>();
+        for (ImportRow row : context.batch) {
+            rowsBySql.computeIfAbsent(row.sqlIndex(), index -> new ArrayList<>()).add(row);
+        }
+        rowsBySql.forEach((sqlIndex, rows) -> upsert(context, UPSERT_SQL[sqlIndex], rows));
+        context.batch.clear();
+    }
+
+    private void upsert(ImportContext context, String sql, List<ImportRow> rows) {
+        List<String> written = new ArrayList<>(rows.size());
+        try {
+            jdbcTemplate.batchUpdate(sql, toArgs(rows));
+            rows.forEach(row -> written.add(row.email));
+        } catch (DataAccessException e) {
+            // batch 중 한 행이라도 실패하면 어떤 행이 문제인지 알 수 없으므로 행 단위로 다시 저장하여 오류를 기록
+            for (ImportRow row : rows) {
+                try {
+                    jdbcTemplate.update(sql, row.toArgs());
+                    written.add(row.email);
+                } catch (DataAccessException rowException) {
+                    context.fail(row.line, rowException.getMostSpecificCause().getMessage());
+                }
+            }
+        }
+        context.upserted += written.size();
+        // 등록 직후 로그인 / refresh 의 조회가 replica 지연으로 이전 role 을 읽지 않도록 primary 에서 조회하게 함
+        recentUserWriteTracker.markWritten(written);
+    }
+
+    private static List<Object[]> toArgs(List<ImportRow> rows) {
+        List<Object[]> args = new ArrayList<>(rows.size());
+        for (ImportRow row : rows) {
+            args.add(row.toArgs());
+        }
+        return args;
+    }
+
+    private static ImportRow toRow(long line, Map<String, String> fields) {
+        String email = trimToNull(fields.get("email"));
+        if (email == null || email.indexOf('@') <= 0 || email.length() > MAX_EMAIL_LENGTH) {
+            throw new IllegalArgumentException("invalid email: " + email);
+        }
+
+        // role 미지정 시 새 사용자는 OAuth2 최초 로그인과 동일하게 GUEST (기존 사용자의 role 은 유지)
+        UserRole role = null;
+        String roleValue = trimToNull(fields.get("role"));
+        if (roleValue != null) {
+            String normalized = roleValue.toUpperCase(Locale.ROOT);
+            try {
+                role = UserRole.valueOf(normalized.startsWith("ROLE_") ? normalized.substring(5) : normalized);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("unknown role: " + roleValue);
+            }
+        }
+
+        // name 은 필수 컬럼이므로 미지정 시 새 사용자는 email 의 local part 사용 (첫 로그인 시 GitHub 정보로 갱신됨, 기존 사용자의 name 은 유지)
+        String name = trimToNull(fields.get("name"));
+        return new ImportRow(line, email, name, trimToNull(fields.get("picture")), role);
+    }
+
+    private Map<String, String> toJsonFields(String line) {
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(line);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("malformed JSON: " + e.getOriginalMessage());
+        }
+        if (node == null || !node.isObject()) {
+            throw new IllegalArgumentException("each line must be a JSON object");
+        }
+        Map<String, String> fields = new HashMap<>();
+        node.fields().forEachRemaining(entry -> {
+            if (!entry.getValue().isNull()) {
+                fields.put(entry.getKey().toLowerCase(Locale.ROOT), entry.getValue().asText());
+            }
+        });
+        return fields;
+    }
+
+    private static Map<String, String> toCsvFields(List<String> header, String line) {
+        List<String> values = parseCsvLine(line);
+        if (values.size() > header.size()) {
+            throw new IllegalArgumentException("too many columns: " + values.size());
+        }
+        Map<String, String> fields = new HashMap<>();
+        for (int i = 0; i < values.size(); i++) {
+            fields.put(header.get(i), values.get(i));
+        }
+        return fields;
+    }
+
+    // 한 줄 단위 CSV 파싱 (큰따옴표로 감싼 값, "" escape 지원)
+    static List<String> parseCsvLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("unterminated quoted value");
+        }
+        values.add(current.toString());
+        return values;
+    }
+
+    private static String trimToNull(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+
+    // name, role 이 null 이면 입력에서 지정하지 않은 값 (INSERT 시에만 기본값 사용)
+    record ImportRow(long line, String email, String name, String picture, UserRole role) {
+
+        // UPSERT_SQL 의 index (bit 1 = name 갱신, bit 0 = role 갱신)
+        int sqlIndex() {
+            return (name != null ? 2 : 0) | (role != null ? 1 : 0);
+        }
+
+        Object[] toArgs() {
+            return new Object[]{
+                    email,
+                    name != null ? name : email.substring(0, email.indexOf('@')),
+                    picture,
+                    (role != null ? role : UserRole.GUEST).name(),
+                    new Timestamp(System.currentTimeMillis())
+            };
+        }
+    }
+
+    private static class ImportContext {
+        private final List<ImportRow> batch = new ArrayList<>(BATCH_SIZE);
+        private final List<RowError> errors = new ArrayList<>();
+        private long processed;
+        private long upserted;
+        private long failed;
+
+        void fail(long line, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new RowError(line, message));
+            }
+        }
+    }
+}
@@ -1,12 +1,57 @@
 package dev.hyzoon.oauth_test.user;
 
 import dev.hyzoon.oauth_test.user.domain.User;
+import dev.hyzoon.oauth_test.user.domain.UserRole;
+import dev.hyzoon.oauth_test.user.dto.AdminUserDto;
+import dev.hyzoon.oauth_test.user.dto.UserIdRangeDto;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
+// 조회 method 는 read-only 트랜잭션으로 실행 (datasource-routing 사용 시 replica 로 연결)
+// save 등 JpaRepository 의 쓰기 method 는 SimpleJpaRepository 의 @Transactional 설정을 따르므로 primary 사용
+@Transactional(readOnly = true)
 public interface UserRepository extends JpaRepository<User, Long> {
 
     // email을 통해 이미 생성된 사용자인지 처음 가입하는 사용자인지 판단하기 위한 method
     Optional<User> findByEmail(String email);
+
+    // 관리자용 keyset(seek) pagination: offset 대신 마지막으로 조회한 id 이후부터 조회하므로 페이지 위치와 무관하게 비용이 일정
+    // 생성 기간 필터는 AdminUserService 에서 id 범위 (afterId, maxId] 로도 변환하여 전달하므로 PK (또는 role, id) index 의 range scan 으로 처리
+    // id 순서와 created_at 순서는 서버 간 시계 차이, 동시 insert, 일괄 등록 등으로 어긋날 수 있으므로 created_at 조건은 범위 안에서 그대로 확인
+    // 영속성 컨텍스트에 entity 가 쌓이지 않도록 DTO 로 바로 조회 (export 시 메모리 사용량 일정)
+    @Query("""
+            select new dev.hyzoon.oauth_test.user.dto.AdminUserDto(
+                u.id, u.name, u.email, u.picture, u.role, u.createdAt, u.lastLoginAt)
+            from User u
+            where u.id > :afterId
+              and u.id <= :maxId
+              and (:role is null or u.role = :role)
+              and (:createdFrom is null or u.createdAt >= :createdFrom)
+              and (:createdTo is null or u.createdAt < :createdTo)
+            order by u.id
+            """)
+    List<AdminUserDto> findPageAfter(@Param("afterId") long afterId,
+                                     @Param("maxId") long maxId,
+                                     @Param("role") UserRole role,
+                                     @Param("createdFrom") LocalDateTime createdFrom,
+                                     @Param("createdTo") LocalDateTime createdTo,
+                                     Limit limit);
+
+    // 생성 기간의 사용자를 모두 포함하는 id 범위 조회 ((created_at, id) index 만 읽는 range scan)
+    // 첫 / 마지막 생성 사용자의 id 가 아닌 min / max 를 사용하여 id 순서가 어긋난 사용자도 범위에 포함
+    @Query("""
+            select new dev.hyzoon.oauth_test.user.dto.UserIdRangeDto(min(u.id), max(u.id))
+            from User u
+            where (:createdFrom is null or u.createdAt >= :createdFrom)
+              and (:createdTo is null or u.createdAt < :createdTo)
+            """)
+    UserIdRangeDto findIdRangeCreatedBetween(@Param("createdFrom") LocalDateTime createdFrom,
+                                             @Param("createdTo") LocalDateTime createdTo);
 }
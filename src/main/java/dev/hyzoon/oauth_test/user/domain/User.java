@@ -4,10 +4,22 @@ import jakarta.persistence.*;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
 
 @Getter
 @NoArgsConstructor
 @Entity
+@Table(uniqueConstraints = {
+        // 일괄 등록 시 email 기준 upsert (ON DUPLICATE KEY UPDATE) 및 findByEmail 조회용
+        @UniqueConstraint(name = "uk_user_email", columnNames = "email")
+}, indexes = {
+        // 관리자 목록 조회 (keyset pagination) 시 role 필터 + id 정렬을 index 만으로 처리하기 위해
+        @Index(name = "idx_user_role_id", columnList = "role, id"),
+        // 생성 기간 필터의 id 범위 조회용 (기간 필터는 id 범위로 변환하여 조회, AdminUserService.resolveIdRange)
+        @Index(name = "idx_user_created_at_id", columnList = "created_at, id")
+})
 public class User {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -26,6 +38,14 @@ public class User {
     @Column(nullable = false)
     private UserRole role;
 
+    @CreationTimestamp
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+
+    // 마지막 로그인 / 토큰 재발급 시각 (LoginAuditWorker 가 batch 로 갱신)
+    @Column
+    private LocalDateTime lastLoginAt;
+
     @Builder
     public User(String name, String email, String picture, UserRole role) {
         this.name = name;
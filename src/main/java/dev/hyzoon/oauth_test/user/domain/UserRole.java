@@ -9,7 +9,9 @@ public enum UserRole {
 
     // spring security 에서는 권한 코드에 항상 `ROLE_` 접두사가 붙어야 함
     GUEST("ROLE_GUEST", "방문자"),
-    USER("ROLE_USER", "일반 사용자");
+    USER("ROLE_USER", "일반 사용자"),
+    ADMIN("ROLE_ADMIN", "관리자"),
+    SERVICE("ROLE_SERVICE", "내부 서비스"); // 토큰 일괄 검증 등 내부 서비스 전용 계정
 
     private final String code;
     private final String displayName;
@@ -0,0 +1,20 @@
+package dev.hyzoon.oauth_test.user.dto;
+
+import dev.hyzoon.oauth_test.user.domain.UserRole;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 관리자 사용자 목록 / export 응답 항목
+@Getter
+@AllArgsConstructor
+public class AdminUserDto {
+    private Long id;
+    private String name;
+    private String email;
+    private String picture;
+    private UserRole role;
+    private LocalDateTime createdAt;
+    private LocalDateTime lastLoginAt;
+}
@@ -0,0 +1,12 @@
+package dev.hyzoon.oauth_test.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 생성 기간에 해당하는 사용자의 최소 / 최대 id (해당 사용자가 없으면 둘 다 null)
+@Getter
+@AllArgsConstructor
+public class UserIdRangeDto {
+    private Long minId;
+    private Long maxId;
+}
@@ -0,0 +1,24 @@
+package dev.hyzoon.oauth_test.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 사용자 일괄 등록 결과
+@Getter
+@AllArgsConstructor
+public class UserImportReportDto {
+    private long processed; // 읽은 데이터 행 수 (header 제외)
+    private long upserted; // 등록 또는 갱신된 행 수
+    private long failed; // 실패한 행 수
+    private List<RowError> errors; // 실패 상세 (최대 MAX_REPORTED_ERRORS 건)
+    private long elapsedMillis;
+
+    @Getter
+    @AllArgsConstructor
+    public static class RowError {
+        private long line;
+        private String message;
+    }
+}
@@ -0,0 +1,262 @@
+package dev.hyzoon.oauth_test.audit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.Record;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamInfo;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LoginAuditWorkerTest {
+
+    private static final String STREAM = LoginAuditPublisher.STREAM_KEY;
+    private static final String GROUP = "login_audit_writer";
+
+    private StringRedisTemplate stringRedisTemplate;
+    private StreamOperations<String, Object, Object> streamOperations;
+    private JdbcTemplate jdbcTemplate;
+    private LoginAuditWorker worker;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        stringRedisTemplate = mock(StringRedisTemplate.class);
+        streamOperations = mock(StreamOperations.class);
+        jdbcTemplate = mock(JdbcTemplate.class);
+        when(stringRedisTemplate.hasKey(STREAM)).thenReturn(true);
+        when(stringRedisTemplate.opsForStream()).thenReturn(streamOperations);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[]{1});
+
+        worker = new LoginAuditWorker(stringRedisTemplate, jdbcTemplate,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void parsesValidRecord() {
+        LoginAuditWorker.LoginAuditRow row = LoginAuditWorker.LoginAuditRow.from(record("1-0", "user@example.com", "12345"));
+
+        assertThat(row.email()).isEqualTo("user@example.com");
+        assertThat(row.occurredAt()).isEqualTo(12345L);
+    }
+
+    @Test
+    void rejectsMalformedRecords() {
+        assertThatThrownBy(() -> LoginAuditWorker.LoginAuditRow.from(record("1-0", "user@example.com", "yesterday")))
+                .isInstanceOf(NumberFormatException.class);
+        assertThatThrownBy(() -> LoginAuditWorker.LoginAuditRow.from(record("1-0", null, "12345")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // 잘못된 pending 이벤트가 매 drain 마다 재처리되어 새 이벤트 처리를 막지 않아야 함
+    @Test
+    @SuppressWarnings("unchecked")
+    void deadLettersMalformedPendingRecordAndContinuesWithNewEvents() {
+        MapRecord<String, String, String> poison = record("1-0", "bad@example.com", "not-a-number");
+        MapRecord<String, String, String> fresh = record("2-0", "user@example.com", "12345");
+        when(streamOperations.read(any(Consumer.class), any(StreamReadOptions.class), any(StreamOffset.class)))
+                .thenReturn((List) List.of(poison))  // 내 pending 이벤트
+                .thenReturn(List.of())               // cursor 이후 pending 없음
+                .thenReturn((List) List.of(fresh));  // 새 이벤트
+
+        worker.drain();
+
+        verify(streamOperations).add(
+                argThat((Record<String, ?> deadLetter) -> LoginAuditWorker.DEAD_LETTER_STREAM_KEY.equals(deadLetter.getStream())),
+                any(XAddOptions.class));
+        verify(streamOperations).acknowledge(STREAM, GROUP, RecordId.of("1-0"));
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT IGNORE"), argThat((List<Object[]> rows) -> rows.size() == 1));
+        verify(streamOperations).acknowledge(STREAM, GROUP, RecordId.of("2-0"));
+        verify(streamOperations, times(3)).read(any(Consumer.class), any(StreamReadOptions.class), any(StreamOffset.class));
+    }
+
+    // batch 저장 실패 시 한 건씩 저장하고, 전달 횟수를 다 쓴 이벤트만 dead-letter 처리
+    @Test
+    @SuppressWarnings("unchecked")
+    void isolatesRecordThatKeepsFailingToPersist() {
+        MapRecord<String, String, String> failing = record("1-0", "too-long@example.com", "12345");
+        MapRecord<String, String, String> ok = record("2-0", "user@example.com", "12345");
+        when(streamOperations.read(any(Consumer.class), any(StreamReadOptions.class), any(StreamOffset.class)))
+                .thenReturn((List) List.of(failing, ok))
+                .thenReturn(List.of())
+                .thenReturn(List.of());
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+            List<Object[]> rows = invocation.getArgument(1);
+            boolean containsFailing = rows.stream().anyMatch(row -> "too-long@example.com".equals(row[1]));
+            if (containsFailing) {
+                throw new DataIntegrityViolationException("Data too long");
+            }
+            return new int[rows.size()];
+        });
+        when(streamOperations.pending(eq(STREAM), any(Consumer.class), any(Range.class), anyLong()))
+                .thenReturn(new PendingMessages(GROUP, List.of(new PendingMessage(
+                        RecordId.of("1-0"), Consumer.from(GROUP, "me"), Duration.ofSeconds(1), 5))));
+
+        worker.drain();
+
+        verify(streamOperations).acknowledge(STREAM, GROUP, RecordId.of("2-0"));
+        verify(streamOperations).acknowledge(STREAM, GROUP, RecordId.of("1-0"));
+        verify(streamOperations).add(any(Record.class), any(XAddOptions.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void claimsIdleEntriesOfOtherConsumers() {
+        consumers(consumer("replaced-container", 2), consumer("live-container", 1), consumer("idle-container", 0));
+        when(streamOperations.pending(STREAM, Consumer.from(GROUP, "replaced-container"), Range.unbounded(), 500L))
+                .thenReturn(new PendingMessages(GROUP, List.of(
+                        pendingMessage("1-0", "replaced-container", Duration.ofMinutes(5)),
+                        pendingMessage("2-0", "replaced-container", Duration.ofSeconds(2)))));
+        when(streamOperations.pending(STREAM, Consumer.from(GROUP, "live-container"), Range.unbounded(), 500L))
+                .thenReturn(new PendingMessages(GROUP, List.of(
+                        pendingMessage("3-0", "live-container", Duration.ofSeconds(2)))));
+        when(streamOperations.read(any(Consumer.class), any(StreamReadOptions.class), any(StreamOffset.class)))
+                .thenReturn(List.of());
+
+        worker.drain();
+
+        verify(streamOperations).claim(eq(STREAM), eq(GROUP), anyString(), any(Duration.class), eq(RecordId.of("1-0")));
+        verify(streamOperations, times(1)).claim(anyString(), anyString(), anyString(), any(Duration.class), any(RecordId[].class));
+        verify(streamOperations, never()).pending(eq(STREAM), eq(Consumer.from(GROUP, "idle-container")), any(Range.class), anyLong());
+        verify(streamOperations, never()).add(any(Record.class), any(XAddOptions.class));
+    }
+
+    // pending 이벤트가 BATCH_SIZE 보다 많아도 마지막으로 확인한 id 다음부터 끝까지 확인
+    @Test
+    @SuppressWarnings("unchecked")
+    void claimsIdleEntriesBeyondFirstPendingPage() {
+        consumers(consumer("replaced-container", 501));
+        List<PendingMessage> firstPage = new ArrayList<>();
+        for (int i = 1; i <= 500; i++) {
+            firstPage.add(pendingMessage(i + "-0", "replaced-container", Duration.ofMinutes(5)));
+        }
+        when(streamOperations.pending(STREAM, Consumer.from(GROUP, "replaced-container"), Range.unbounded(), 500L))
+                .thenReturn(new PendingMessages(GROUP, firstPage));
+        when(streamOperations.pending(STREAM, Consumer.from(GROUP, "replaced-container"),
+                Range.rightUnbounded(Range.Bound.inclusive("500-1")), 500L))
+                .thenReturn(new PendingMessages(GROUP, List.of(
+                        pendingMessage("501-0", "replaced-container", Duration.ofMinutes(5)))));
+        when(streamOperations.read(any(Consumer.class), any(StreamReadOptions.class), any(StreamOffset.class)))
+                .thenReturn(List.of());
+
+        worker.drain();
+
+        verify(streamOperations).claim(eq(STREAM), eq(GROUP), anyString(), any(Duration.class),
+                argThat((RecordId[] ids) -> ids.length == 500));
+        verify(streamOperations).claim(eq(STREAM), eq(GROUP), anyString(), any(Duration.class), eq(RecordId.of("501-0")));
+    }
+
+    // DB 장애로 처리하지 못해도 group 의 pending / 미전달 이벤트 수는 갱신
+    @Test
+    @SuppressWarnings("unchecked")
+    void updatesBacklogGaugesEvenWhenDrainFails() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        worker = new LoginAuditWorker(stringRedisTemplate, jdbcTemplate,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), meterRegistry);
+        when(streamOperations.read(any(Consumer.class), any(StreamReadOptions.class), any(StreamOffset.class)))
+                .thenReturn((List) List.of(record("1-0", "user@example.com", "12345")));
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenThrow(new CannotGetJdbcConnectionException("down"));
+        StreamInfo.XInfoGroup group = mock(StreamInfo.XInfoGroup.class);
+        when(group.groupName()).thenReturn(GROUP);
+        when(group.pendingCount()).thenReturn(1L);
+        when(group.getRaw()).thenReturn(Map.of("lag", 42L));
+        StreamInfo.XInfoGroups groups = mock(StreamInfo.XInfoGroups.class);
+        when(groups.stream()).thenAnswer(invocation -> Stream.of(group));
+        when(streamOperations.groups(STREAM)).thenReturn(groups);
+
+        worker.drain();
+
+        assertThat(meterRegistry.get("auth.login.audit.pending").gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get("auth.login.audit.undelivered").gauge().value()).isEqualTo(42);
+    }
+
+    // XINFO GROUPS 의 lag 를 알 수 없으면 last-delivered-id 이후 이벤트를 직접 셈
+    @Test
+    @SuppressWarnings("unchecked")
+    void countsEntriesAfterLastDeliveredIdWhenLagIsUnknown() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        worker = new LoginAuditWorker(stringRedisTemplate, jdbcTemplate,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), meterRegistry);
+        when(streamOperations.read(any(Consumer.class), any(StreamReadOptions.class), any(StreamOffset.class)))
+                .thenReturn(List.of());
+        StreamInfo.XInfoGroup group = mock(StreamInfo.XInfoGroup.class);
+        when(group.groupName()).thenReturn(GROUP);
+        when(group.lastDeliveredId()).thenReturn("5-0");
+        when(group.getRaw()).thenReturn(Map.of());
+        StreamInfo.XInfoGroups groups = mock(StreamInfo.XInfoGroups.class);
+        when(groups.stream()).thenAnswer(invocation -> Stream.of(group));
+        when(streamOperations.groups(STREAM)).thenReturn(groups);
+        when(streamOperations.range(eq(STREAM), eq(Range.rightUnbounded(Range.Bound.inclusive("5-1"))), any(Limit.class)))
+                .thenReturn((List) List.of(record("6-0", "user@example.com", "12345"), record("7-0", "user@example.com", "12345")));
+
+        worker.drain();
+
+        assertThat(meterRegistry.get("auth.login.audit.undelivered").gauge().value()).isEqualTo(2);
+    }
+
+    private void consumers(StreamInfo.XInfoConsumer... consumers) {
+        StreamInfo.XInfoConsumers xInfoConsumers = mock(StreamInfo.XInfoConsumers.class);
+        when(xInfoConsumers.stream()).thenAnswer(invocation -> Stream.of(consumers));
+        when(streamOperations.consumers(STREAM, GROUP)).thenReturn(xInfoConsumers);
+    }
+
+    private static StreamInfo.XInfoConsumer consumer(String name, long pendingCount) {
+        StreamInfo.XInfoConsumer consumer = mock(StreamInfo.XInfoConsumer.class);
+        when(consumer.consumerName()).thenReturn(name);
+        when(consumer.pendingCount()).thenReturn(pendingCount);
+        return consumer;
+    }
+
+    private static PendingMessage pendingMessage(String id, String consumerName, Duration idle) {
+        return new PendingMessage(RecordId.of(id), Consumer.from(GROUP, consumerName), idle, 1);
+    }
+
+    private static MapRecord<String, String, String> record(String id, String email, String occurredAt) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put("type", "LOGIN");
+        if (email != null) {
+            fields.put("email", email);
+        }
+        fields.put("occurredAt", occurredAt);
+        return StreamRecords.newRecord().in(STREAM).withId(RecordId.of(id)).ofMap(fields);
+    }
+}
@@ -0,0 +1,91 @@
+package dev.hyzoon.oauth_test.auth;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.hyzoon.oauth_test.auth.dto.TokenIntrospectionDto;
+import dev.hyzoon.oauth_test.auth.dto.TokenIntrospectionDto.TokenStatus;
+import dev.hyzoon.oauth_test.auth.dto.TokenIntrospectionRequestDto;
+import dev.hyzoon.oauth_test.global.config.JwtProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AuthControllerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private TokenIntrospectionService introspectionService;
+    private AuthController authController;
+
+    @BeforeEach
+    void setUp() {
+        introspectionService = mock(TokenIntrospectionService.class);
+        authController = new AuthController(mock(AuthService.class), introspectionService, new JwtProperties());
+    }
+
+    @Test
+    void introspect_cacheControlUsesShortestMaxAge() throws Exception {
+        when(introspectionService.introspect(anyList())).thenReturn(List.of(
+                result(TokenStatus.INVALID, 3600),
+                result(TokenStatus.ACTIVE, 30),
+                result(TokenStatus.ACTIVE, 12)));
+
+        ResponseEntity<Map<String, Object>> response = authController.introspect(request(List.of("a", "b", "c")));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CACHE_CONTROL)).isEqualTo("max-age=12, private");
+        assertThat((List<?>) response.getBody().get("results")).hasSize(3);
+    }
+
+    @Test
+    void introspect_rejectsEmptyBatch() throws Exception {
+        assertBadRequest(request(List.of()));
+        assertBadRequest(new TokenIntrospectionRequestDto());
+    }
+
+    @Test
+    void introspect_rejectsBatchOverLimit() throws Exception {
+        assertBadRequest(request(Collections.nCopies(TokenIntrospectionService.MAX_BATCH_SIZE + 1, "token")));
+    }
+
+    @Test
+    void introspect_acceptsBatchAtLimit() throws Exception {
+        when(introspectionService.introspect(anyList())).thenReturn(List.of(result(TokenStatus.INVALID, 3600)));
+
+        ResponseEntity<Map<String, Object>> response =
+                authController.introspect(request(Collections.nCopies(TokenIntrospectionService.MAX_BATCH_SIZE, "token")));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    private void assertBadRequest(TokenIntrospectionRequestDto requestDto) {
+        ResponseEntity<Map<String, Object>> response = authController.introspect(requestDto);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        verify(introspectionService, never()).introspect(anyList());
+    }
+
+    // 실제 요청과 같이 JSON 으로부터 역직렬화
+    private TokenIntrospectionRequestDto request(List<String> tokens) throws Exception {
+        return objectMapper.readValue(objectMapper.writeValueAsString(Map.of("tokens", tokens)), TokenIntrospectionRequestDto.class);
+    }
+
+    private static TokenIntrospectionDto result(TokenStatus status, long maxAge) {
+        return TokenIntrospectionDto.builder()
+                .active(status == TokenStatus.ACTIVE)
+                .status(status)
+                .maxAge(maxAge)
+                .build();
+    }
+}
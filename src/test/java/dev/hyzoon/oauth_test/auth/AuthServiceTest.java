@@ -0,0 +1,240 @@
+package dev.hyzoon.oauth_test.auth;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.hyzoon.oauth_test.audit.LoginAuditPublisher;
+import dev.hyzoon.oauth_test.audit.dto.ClientInfoDto;
+import dev.hyzoon.oauth_test.auth.dto.JwtTokenDto;
+import dev.hyzoon.oauth_test.global.config.JwtProperties;
+import dev.hyzoon.oauth_test.global.datasource.RecentUserWriteTracker;
+import dev.hyzoon.oauth_test.global.exception.InvalidRefreshTokenException;
+import dev.hyzoon.oauth_test.user.UserRepository;
+import dev.hyzoon.oauth_test.user.domain.User;
+import dev.hyzoon.oauth_test.user.domain.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AuthServiceTest {
+
+    private static final String EMAIL = "user@example.com";
+    private static final ClientInfoDto CLIENT = new ClientInfoDto("127.0.0.1", "test");
+
+    // 여러 서버가 공유하는 Redis 를 대신하는 map (ValueOperations / lock 해제 script 가 이 map 을 사용)
+    private final Map<String, String> redis = new ConcurrentHashMap<>();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private JwtTokenProvider jwtTokenProvider;
+    private RedisTemplate<String, String> redisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private RefreshTokenStore refreshTokenStore;
+    private UserRepository userRepository;
+    private AuthService authService;
+    private String refreshToken;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecret("test-secret-key-for-hs512-signature-must-be-at-least-64-bytes-long!!");
+        jwtProperties.setAccessTokenExpiry(60_000);
+        jwtProperties.setRefreshTokenExpiry(600_000);
+        jwtTokenProvider = new JwtTokenProvider(jwtProperties);
+
+        redisTemplate = mock(RedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(anyString())).thenAnswer(invocation -> redis.get(invocation.<String>getArgument(0)));
+        doAnswer(invocation -> redis.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(valueOperations).set(anyString(), anyString(), anyLong(), any(TimeUnit.class));
+        when(valueOperations.setIfAbsent(anyString(), anyString(), anyLong(), any(TimeUnit.class)))
+                .thenAnswer(invocation -> redis.putIfAbsent(invocation.getArgument(0), invocation.getArgument(1)) == null);
+        when(valueOperations.multiGet(anyCollection()))
+                .thenAnswer(invocation -> invocation.<Collection<String>>getArgument(0).stream().map(redis::get).toList());
+        // RELEASE_LOCK_SCRIPT 와 같은 compare-and-delete
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any()))
+                .thenAnswer(invocation -> redis.remove(invocation.<List<String>>getArgument(1).get(0), invocation.getArgument(2)) ? 1L : 0L);
+
+        refreshTokenStore = mock(RefreshTokenStore.class);
+        userRepository = mock(UserRepository.class);
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(
+                User.builder().email(EMAIL).name("user").role(UserRole.USER).build()));
+
+        authService = new AuthService(jwtTokenProvider, redisTemplate, refreshTokenStore, userRepository, jwtProperties,
+                objectMapper, mock(LoginAuditPublisher.class), mock(RecentUserWriteTracker.class), mock(TransactionTemplate.class));
+
+        refreshToken = jwtTokenProvider.generateTokenDto(EMAIL, UserRole.USER.getCode()).getRefreshToken();
+        when(refreshTokenStore.find(EMAIL)).thenReturn(refreshToken);
+    }
+
+    @Test
+    void refresh_rotatesSessionAndReleasesLock() {
+        JwtTokenDto refreshed = authService.refreshToken(refreshToken, CLIENT);
+
+        verify(refreshTokenStore).save(eq(EMAIL), eq(refreshed.getRefreshToken()), anyLong());
+        assertThat(redis).containsKey(graceKey()).doesNotContainKey(lockKey());
+    }
+
+    @Test
+    void concurrentLocalCallers_shareOneRefresh() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch proceed = new CountDownLatch(1);
+        when(refreshTokenStore.find(EMAIL)).thenAnswer(invocation -> {
+            entered.countDown();
+            proceed.await(5, TimeUnit.SECONDS);
+            return refreshToken;
+        });
+
+        CompletableFuture<JwtTokenDto> first = CompletableFuture.supplyAsync(() -> authService.refreshToken(refreshToken, CLIENT));
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        AtomicReference<JwtTokenDto> secondResult = new AtomicReference<>();
+        Thread second = new Thread(() -> secondResult.set(authService.refreshToken(refreshToken, CLIENT)));
+        second.start();
+        // 두 번째 호출이 진행 중인 재발급 결과를 기다리기 시작할 때까지 대기 (CompletableFuture.get(timeout))
+        long deadline = System.currentTimeMillis() + 5000;
+        while (second.getState() != Thread.State.TIMED_WAITING && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+        }
+        proceed.countDown();
+        second.join(5000);
+
+        assertThat(secondResult.get()).isSameAs(first.get(5, TimeUnit.SECONDS));
+        verify(valueOperations, times(1)).setIfAbsent(anyString(), anyString(), anyLong(), any(TimeUnit.class));
+        verify(valueOperations, never()).multiGet(anyCollection());
+        verify(userRepository, times(1)).findByEmail(EMAIL);
+    }
+
+    @Test
+    void recentlyIssuedPair_isReturnedDuringGracePeriod() throws Exception {
+        JwtTokenDto issued = issuedByOtherNode();
+        redis.put(graceKey(), objectMapper.writeValueAsString(issued));
+
+        JwtTokenDto refreshed = authService.refreshToken(refreshToken, CLIENT);
+
+        assertThat(refreshed.getAccessToken()).isEqualTo(issued.getAccessToken());
+        verify(refreshTokenStore, never()).find(anyString());
+        verify(valueOperations, never()).setIfAbsent(anyString(), anyString(), anyLong(), any(TimeUnit.class));
+    }
+
+    @Test
+    void pairIssuedBetweenGraceCheckAndLock_isReturnedInsteadOfRejected() throws Exception {
+        // 다른 서버가 첫 grace 확인 직후 재발급을 마치고 lock 을 해제한 상황 (세션은 이미 새 토큰으로 교체됨)
+        JwtTokenDto issued = issuedByOtherNode();
+        when(refreshTokenStore.find(EMAIL)).thenReturn(issued.getRefreshToken());
+        when(valueOperations.setIfAbsent(anyString(), anyString(), anyLong(), any(TimeUnit.class))).thenAnswer(invocation -> {
+            redis.put(graceKey(), objectMapper.writeValueAsString(issued));
+            return redis.putIfAbsent(invocation.getArgument(0), invocation.getArgument(1)) == null;
+        });
+
+        JwtTokenDto refreshed = authService.refreshToken(refreshToken, CLIENT);
+
+        assertThat(refreshed.getAccessToken()).isEqualTo(issued.getAccessToken());
+        verify(refreshTokenStore, never()).save(anyString(), anyString(), anyLong());
+        assertThat(redis).doesNotContainKey(lockKey());
+    }
+
+    @Test
+    void lockLoser_receivesPairStoredByLockOwner() throws Exception {
+        JwtTokenDto issued = issuedByOtherNode();
+        redis.put(lockKey(), "other-node");
+        // 첫 polling 시점에 다른 서버가 재발급을 완료
+        when(valueOperations.multiGet(anyCollection())).thenAnswer(invocation -> {
+            redis.put(graceKey(), objectMapper.writeValueAsString(issued));
+            return invocation.<Collection<String>>getArgument(0).stream().map(redis::get).toList();
+        });
+
+        JwtTokenDto refreshed = authService.refreshToken(refreshToken, CLIENT);
+
+        assertThat(refreshed.getAccessToken()).isEqualTo(issued.getAccessToken());
+        verify(refreshTokenStore, never()).find(anyString());
+        assertThat(redis.get(lockKey())).isEqualTo("other-node");
+    }
+
+    @Test
+    void failureMarker_failsWaitersBeforeLockExpiry() {
+        redis.put(lockKey(), "other-node");
+        redis.put("refresh_failed:" + digest(refreshToken), "InvalidRefreshTokenException");
+
+        long startMillis = System.currentTimeMillis();
+        assertThatThrownBy(() -> authService.refreshToken(refreshToken, CLIENT))
+                .isInstanceOf(InvalidRefreshTokenException.class)
+                .hasMessageContaining("failed");
+        assertThat(System.currentTimeMillis() - startMillis).isLessThan(1000);
+    }
+
+    @Test
+    void failedRefresh_leavesFailureMarkerForOtherNodes() {
+        when(refreshTokenStore.find(EMAIL)).thenReturn(null);
+
+        assertThatThrownBy(() -> authService.refreshToken(refreshToken, CLIENT))
+                .isInstanceOf(InvalidRefreshTokenException.class);
+        assertThat(redis.get("refresh_failed:" + digest(refreshToken))).isEqualTo("InvalidRefreshTokenException");
+        assertThat(redis).doesNotContainKey(lockKey());
+    }
+
+    @Test
+    void lockTakenOverAfterExpiry_isNotReleasedByPreviousOwner() {
+        // 재발급이 lock 유지 시간보다 오래 걸려 다른 서버가 lock 을 다시 획득한 상황
+        when(refreshTokenStore.find(EMAIL)).thenAnswer(invocation -> {
+            redis.put(lockKey(), "other-node");
+            return refreshToken;
+        });
+
+        authService.refreshToken(refreshToken, CLIENT);
+
+        assertThat(redis.get(lockKey())).isEqualTo("other-node");
+    }
+
+    // 같은 초에 발급하면 토큰이 같아지므로 다른 role 로 발급하여 이 서버에서 새로 발급한 토큰과 구분
+    private JwtTokenDto issuedByOtherNode() {
+        return jwtTokenProvider.generateTokenDto(EMAIL, UserRole.ADMIN.getCode());
+    }
+
+    private String lockKey() {
+        return "refresh_lock:" + digest(refreshToken);
+    }
+
+    private String graceKey() {
+        return "refresh_grace:" + digest(refreshToken);
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
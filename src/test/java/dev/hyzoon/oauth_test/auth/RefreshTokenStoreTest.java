@@ -0,0 +1,150 @@
+package dev.hyzoon.oauth_test.auth;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RefreshTokenStoreTest {
+
+    private final RefreshTokenStore.CountingCacheAccessor accessor = new RefreshTokenStore.CountingCacheAccessor(100);
+
+    @Test
+    void cachesLoadedValueWhenNoInvalidationDuringLoad() {
+        assertThat(accessor.getOrLoad("user@example.com", key -> "T1")).isEqualTo("T1");
+        assertThat(accessor.getOrLoad("user@example.com", key -> "unexpected")).isEqualTo("T1");
+    }
+
+    // 다른 서버가 토큰을 교체(T1 -> T2)하여 invalidation push 가 GET 응답 이후, 캐시 저장 이전에 처리된 경우
+    @Test
+    void doesNotCacheValueWhenInvalidatedBetweenGetAndPut() {
+        String loaded = accessor.getOrLoad("user@example.com", key -> {
+            String staleValue = "T1"; // GET 응답
+            accessor.evict(key); // event loop 가 invalidation push 처리
+            return staleValue;
+        });
+
+        assertThat(loaded).isEqualTo("T1");
+        // 이후 조회는 캐시된 T1 이 아니라 Redis 의 현재 값을 다시 읽어야 함
+        assertThat(accessor.getOrLoad("user@example.com", key -> "T2")).isEqualTo("T2");
+    }
+
+    // 같은 서버의 save() (SET 후 evict) 가 조회 도중에 실행된 경우
+    @Test
+    void doesNotCacheValueWhenLocalSaveRacesWithLoad() throws Exception {
+        CountDownLatch getReturned = new CountDownLatch(1);
+        CountDownLatch saved = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> reader = executor.submit(() -> accessor.getOrLoad("user@example.com", key -> {
+                getReturned.countDown();
+                await(saved);
+                return "T1";
+            }));
+
+            await(getReturned);
+            accessor.evict("user@example.com");
+            saved.countDown();
+
+            assertThat(reader.get(5, TimeUnit.SECONDS)).isEqualTo("T1");
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(accessor.getOrLoad("user@example.com", key -> "T2")).isEqualTo("T2");
+    }
+
+    @Test
+    void clearPreventsInFlightLoadFromCaching() {
+        accessor.getOrLoad("user@example.com", key -> {
+            accessor.clear(); // 연결 끊김
+            return "T1";
+        });
+
+        assertThat(accessor.size()).isZero();
+    }
+
+    @Test
+    void invalidationBeforeLoadDoesNotBlockCaching() {
+        accessor.evict("user@example.com");
+
+        accessor.getOrLoad("user@example.com", key -> "T2");
+
+        assertThat(accessor.size()).isEqualTo(1);
+        assertThat(accessor.getOrLoad("user@example.com", key -> "unexpected")).isEqualTo("T2");
+    }
+
+    // 다른 사용자의 토큰 교체 / 로그아웃은 진행 중인 조회 결과의 캐싱을 막지 않아야 함
+    @Test
+    void invalidationOfOtherKeyDuringLoadDoesNotBlockCaching() {
+        accessor.getOrLoad("user@example.com", key -> {
+            accessor.evict("other@example.com");
+            accessor.evict("another@example.com");
+            return "T1";
+        });
+
+        assertThat(accessor.getOrLoad("user@example.com", key -> "unexpected")).isEqualTo("T1");
+    }
+
+    // 같은 key 를 동시에 조회하던 모든 호출이 invalidation 이전 값을 저장하지 않아야 함
+    @Test
+    void invalidationDuringConcurrentLoadsOfSameKeyBlocksAllOfThem() {
+        String outer = accessor.getOrLoad("user@example.com", key -> {
+            String inner = accessor.getOrLoad(key, k -> {
+                accessor.evict(k);
+                return "T1";
+            });
+            assertThat(inner).isEqualTo("T1");
+            return "T1";
+        });
+
+        assertThat(outer).isEqualTo("T1");
+        assertThat(accessor.size()).isZero();
+        assertThat(accessor.inFlightLoadCount()).isZero();
+    }
+
+    @Test
+    void inFlightLoadIsReleasedWhenLoaderFails() {
+        assertThatThrownBy(() -> accessor.getOrLoad("user@example.com", key -> {
+            throw new IllegalStateException("connection reset");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(accessor.inFlightLoadCount()).isZero();
+        assertThat(accessor.getOrLoad("user@example.com", key -> "T1")).isEqualTo("T1");
+        assertThat(accessor.size()).isEqualTo(1);
+    }
+
+    @Test
+    void missingKeyIsNotCached() {
+        assertThat(accessor.getOrLoad("user@example.com", key -> null)).isNull();
+        assertThat(accessor.size()).isZero();
+        assertThat(accessor.inFlightLoadCount()).isZero();
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedEntryOverCapacity() {
+        RefreshTokenStore.CountingCacheAccessor small = new RefreshTokenStore.CountingCacheAccessor(2);
+        small.getOrLoad("a", key -> "A");
+        small.getOrLoad("b", key -> "B");
+        small.getOrLoad("a", key -> "unexpected"); // a 를 최근 사용으로
+        small.getOrLoad("c", key -> "C");
+
+        assertThat(small.size()).isEqualTo(2);
+        assertThat(small.getOrLoad("b", key -> "reloaded")).isEqualTo("reloaded");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
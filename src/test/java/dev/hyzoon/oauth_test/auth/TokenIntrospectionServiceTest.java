@@ -0,0 +1,139 @@
+package dev.hyzoon.oauth_test.auth;
+
+import dev.hyzoon.oauth_test.auth.dto.JwtTokenDto;
+import dev.hyzoon.oauth_test.auth.dto.TokenIntrospectionDto;
+import dev.hyzoon.oauth_test.auth.dto.TokenIntrospectionDto.TokenStatus;
+import dev.hyzoon.oauth_test.global.config.JwtProperties;
+import dev.hyzoon.oauth_test.user.domain.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TokenIntrospectionServiceTest {
+
+    private static final String SECRET = "test-secret-key-for-hs512-signature-must-be-at-least-64-bytes-long!!";
+    private static final String EMAIL = "user@example.com";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private RefreshTokenStore refreshTokenStore;
+    private TokenIntrospectionService introspectionService;
+    private JwtTokenDto tokens;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(jwtProperties(SECRET, 600_000, 3_600_000));
+        refreshTokenStore = mock(RefreshTokenStore.class);
+        introspectionService = new TokenIntrospectionService(jwtTokenProvider, refreshTokenStore);
+
+        tokens = jwtTokenProvider.generateTokenDto(EMAIL, UserRole.USER.getCode());
+        when(refreshTokenStore.find(EMAIL)).thenReturn(tokens.getRefreshToken());
+    }
+
+    @Test
+    void validTokensWithLiveSession_areActive() {
+        List<TokenIntrospectionDto> results = introspect(tokens.getAccessToken(), tokens.getRefreshToken());
+
+        assertThat(results).extracting(TokenIntrospectionDto::getStatus).containsExactly(TokenStatus.ACTIVE, TokenStatus.ACTIVE);
+        assertThat(results).extracting(TokenIntrospectionDto::getTokenType).containsExactly("access", "refresh");
+        assertThat(results.get(0).getRoles()).containsExactly(UserRole.USER.getCode());
+        assertThat(results.get(0).getSub()).isEqualTo(EMAIL);
+        assertThat(results.get(1).getRoles()).isNull();
+    }
+
+    @Test
+    void expiredTokens_areExpiredWithoutSessionLookup() {
+        JwtTokenProvider expiredProvider = new JwtTokenProvider(jwtProperties(SECRET, -1000, -1000));
+        JwtTokenDto expired = expiredProvider.generateTokenDto(EMAIL, UserRole.USER.getCode());
+
+        List<TokenIntrospectionDto> results = introspect(expired.getAccessToken(), expired.getRefreshToken());
+
+        assertThat(results).extracting(TokenIntrospectionDto::getStatus).containsExactly(TokenStatus.EXPIRED, TokenStatus.EXPIRED);
+        assertThat(results).allSatisfy(result -> {
+            assertThat(result.isActive()).isFalse();
+            assertThat(result.getExp()).isNotNull();
+        });
+        verify(refreshTokenStore, never()).find(anyString());
+    }
+
+    @Test
+    void loggedOutSession_revokesAccessAndRefreshTokens() {
+        when(refreshTokenStore.find(EMAIL)).thenReturn(null);
+
+        List<TokenIntrospectionDto> results = introspect(tokens.getAccessToken(), tokens.getRefreshToken());
+
+        assertThat(results).extracting(TokenIntrospectionDto::getStatus).containsExactly(TokenStatus.REVOKED, TokenStatus.REVOKED);
+        assertThat(results).extracting(TokenIntrospectionDto::isActive).containsExactly(false, false);
+    }
+
+    @Test
+    void rotatedRefreshToken_isRevokedWhileAccessTokenStaysActive() {
+        // 재발급으로 세션의 Refresh Token 이 교체된 상황
+        when(refreshTokenStore.find(EMAIL)).thenReturn("rotated-refresh-token");
+
+        List<TokenIntrospectionDto> results = introspect(tokens.getAccessToken(), tokens.getRefreshToken());
+
+        assertThat(results).extracting(TokenIntrospectionDto::getStatus).containsExactly(TokenStatus.ACTIVE, TokenStatus.REVOKED);
+    }
+
+    @Test
+    void malformedOrForeignTokens_areInvalid() {
+        JwtTokenProvider foreignProvider = new JwtTokenProvider(
+                jwtProperties("another-secret-key-for-hs512-signature-must-be-at-least-64-bytes!!", 600_000, 600_000));
+        String foreign = foreignProvider.generateTokenDto(EMAIL, UserRole.ADMIN.getCode()).getAccessToken();
+
+        List<TokenIntrospectionDto> results = introspect("not-a-jwt", foreign, null);
+
+        assertThat(results).extracting(TokenIntrospectionDto::getStatus)
+                .containsExactly(TokenStatus.INVALID, TokenStatus.INVALID, TokenStatus.INVALID);
+        assertThat(results).allSatisfy(result -> {
+            assertThat(result.isActive()).isFalse();
+            assertThat(result.getSub()).isNull();
+        });
+        verify(refreshTokenStore, never()).find(anyString());
+    }
+
+    @Test
+    void tokensOfSameSubject_shareOneSessionLookup() {
+        JwtTokenDto other = jwtTokenProvider.generateTokenDto("other@example.com", UserRole.USER.getCode());
+        when(refreshTokenStore.find("other@example.com")).thenReturn(other.getRefreshToken());
+
+        introspect(tokens.getAccessToken(), tokens.getRefreshToken(), tokens.getAccessToken(), other.getAccessToken());
+
+        verify(refreshTokenStore, times(1)).find(EMAIL);
+        verify(refreshTokenStore, times(1)).find("other@example.com");
+    }
+
+    @Test
+    void maxAge_isCappedForActiveTokensAndBoundedByExpiry() {
+        JwtTokenProvider shortLivedProvider = new JwtTokenProvider(jwtProperties(SECRET, 10_000, 3_600_000));
+        String shortLived = shortLivedProvider.generateAccessToken(EMAIL, UserRole.USER.getCode());
+
+        List<TokenIntrospectionDto> results = introspect(tokens.getAccessToken(), shortLived, "not-a-jwt");
+
+        assertThat(results.get(0).getMaxAge()).isEqualTo(30);
+        assertThat(results.get(1).getMaxAge()).isBetween(0L, 10L);
+        assertThat(results.get(2).getMaxAge()).isEqualTo(3600);
+    }
+
+    private List<TokenIntrospectionDto> introspect(String... tokens) {
+        return introspectionService.introspect(Arrays.asList(tokens));
+    }
+
+    private static JwtProperties jwtProperties(String secret, long accessTokenExpiry, long refreshTokenExpiry) {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecret(secret);
+        jwtProperties.setAccessTokenExpiry(accessTokenExpiry);
+        jwtProperties.setRefreshTokenExpiry(refreshTokenExpiry);
+        return jwtProperties;
+    }
+}
@@ -0,0 +1,171 @@
+package dev.hyzoon.oauth_test.auth.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.hyzoon.oauth_test.audit.LoginAuditPublisher;
+import dev.hyzoon.oauth_test.auth.AuthService;
+import dev.hyzoon.oauth_test.auth.JwtTokenProvider;
+import dev.hyzoon.oauth_test.auth.RefreshTokenStore;
+import dev.hyzoon.oauth_test.global.config.JwtProperties;
+import dev.hyzoon.oauth_test.global.datasource.RecentUserWriteTracker;
+import dev.hyzoon.oauth_test.user.UserRepository;
+import dev.hyzoon.oauth_test.user.domain.User;
+import dev.hyzoon.oauth_test.user.domain.UserRole;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AccessTokenRenewerTest {
+
+    private static final String EMAIL = "user@example.com";
+
+    private JwtProperties jwtProperties;
+    private JwtTokenProvider jwtTokenProvider;
+    private RefreshTokenStore refreshTokenStore;
+    private UserRepository userRepository;
+    private RedisTemplate<String, String> redisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private AuthService authService;
+    private AccessTokenRenewer renewer;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        jwtProperties = new JwtProperties();
+        jwtProperties.setSecret("test-secret-key-for-hs512-signature-must-be-at-least-64-bytes-long!!");
+        jwtProperties.setAccessTokenExpiry(30_000);
+        jwtProperties.setRefreshTokenExpiry(600_000);
+        jwtProperties.setSlidingRenewalEnabled(true);
+        jwtProperties.setSlidingRenewalWindow(60_000);
+        jwtTokenProvider = new JwtTokenProvider(jwtProperties);
+
+        refreshTokenStore = mock(RefreshTokenStore.class);
+        when(refreshTokenStore.find(EMAIL)).thenReturn("refresh-token");
+        userRepository = mock(UserRepository.class);
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user(UserRole.USER)));
+
+        redisTemplate = mock(RedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), anyLong(), any(TimeUnit.class))).thenReturn(true);
+
+        authService = new AuthService(jwtTokenProvider, redisTemplate, refreshTokenStore, userRepository, jwtProperties,
+                new ObjectMapper(), mock(LoginAuditPublisher.class), mock(RecentUserWriteTracker.class), mock(TransactionTemplate.class));
+        renewer = new AccessTokenRenewer(authService, jwtProperties, refreshTokenStore, redisTemplate);
+    }
+
+    @Test
+    void nearExpiryToken_isRenewed() {
+        String accessToken = accessToken(UserRole.USER);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThat(renewer.renewIfNearExpiry(accessToken, claims(accessToken), response)).isTrue();
+        assertThat(response.getHeader(AccessTokenRenewer.RENEWED_ACCESS_TOKEN_HEADER)).isNotNull();
+    }
+
+    @Test
+    void disabled_neverRenews() {
+        jwtProperties.setSlidingRenewalEnabled(false);
+        String accessToken = accessToken(UserRole.USER);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThat(renewer.renewIfNearExpiry(accessToken, claims(accessToken), response)).isFalse();
+        assertThat(response.getHeader(AccessTokenRenewer.RENEWED_ACCESS_TOKEN_HEADER)).isNull();
+        verify(refreshTokenStore, never()).find(anyString());
+    }
+
+    @Test
+    void tokenOutsideRenewalWindow_isNotRenewed() {
+        jwtProperties.setSlidingRenewalWindow(10_000);
+        String accessToken = accessToken(UserRole.USER);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThat(renewer.renewIfNearExpiry(accessToken, claims(accessToken), response)).isFalse();
+        assertThat(response.getHeader(AccessTokenRenewer.RENEWED_ACCESS_TOKEN_HEADER)).isNull();
+    }
+
+    @Test
+    void sameTokenOnSameNode_isRenewedOnlyOnce() {
+        String accessToken = accessToken(UserRole.USER);
+        renewer.renewIfNearExpiry(accessToken, claims(accessToken), new MockHttpServletResponse());
+        MockHttpServletResponse second = new MockHttpServletResponse();
+
+        assertThat(renewer.renewIfNearExpiry(accessToken, claims(accessToken), second)).isFalse();
+        assertThat(second.getHeader(AccessTokenRenewer.RENEWED_ACCESS_TOKEN_HEADER)).isNull();
+        // 로컬 digest cache 에서 걸러지므로 Redis 는 한 번만 확인
+        verify(valueOperations, times(1)).setIfAbsent(anyString(), anyString(), anyLong(), any(TimeUnit.class));
+    }
+
+    @Test
+    void tokenAlreadyRenewedByOtherNode_isNotRenewed() {
+        when(valueOperations.setIfAbsent(anyString(), anyString(), anyLong(), any(TimeUnit.class))).thenReturn(false);
+        String accessToken = accessToken(UserRole.USER);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThat(renewer.renewIfNearExpiry(accessToken, claims(accessToken), response)).isFalse();
+        assertThat(response.getHeader(AccessTokenRenewer.RENEWED_ACCESS_TOKEN_HEADER)).isNull();
+        verify(userRepository, never()).findByEmail(anyString());
+    }
+
+    @Test
+    void loggedOutSession_isNotRenewed() {
+        when(refreshTokenStore.find(EMAIL)).thenReturn(null);
+        String accessToken = accessToken(UserRole.USER);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThat(renewer.renewIfNearExpiry(accessToken, claims(accessToken), response)).isFalse();
+        assertThat(response.getHeader(AccessTokenRenewer.RENEWED_ACCESS_TOKEN_HEADER)).isNull();
+    }
+
+    @Test
+    void deletedUser_isNotRenewed() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.empty());
+        String accessToken = accessToken(UserRole.USER);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThat(renewer.renewIfNearExpiry(accessToken, claims(accessToken), response)).isFalse();
+        assertThat(response.getHeader(AccessTokenRenewer.RENEWED_ACCESS_TOKEN_HEADER)).isNull();
+    }
+
+    @Test
+    void renewedToken_carriesCurrentRoleFromDatabase() {
+        // 토큰 발급 후 관리자가 role 을 변경한 상황
+        String accessToken = accessToken(UserRole.ADMIN);
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user(UserRole.GUEST)));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        renewer.renewIfNearExpiry(accessToken, claims(accessToken), response);
+
+        String renewed = response.getHeader(AccessTokenRenewer.RENEWED_ACCESS_TOKEN_HEADER);
+        assertThat(jwtTokenProvider.getRoles(claims(renewed))).containsExactly(UserRole.GUEST.getCode());
+    }
+
+    // accessTokenExpiry (30초) 후 만료되는 토큰
+    private String accessToken(UserRole role) {
+        return jwtTokenProvider.generateAccessToken(EMAIL, role.getCode());
+    }
+
+    private Claims claims(String token) {
+        return jwtTokenProvider.getVerifiedClaims(token);
+    }
+
+    private static User user(UserRole role) {
+        return User.builder().email(EMAIL).name("user").role(role).build();
+    }
+}
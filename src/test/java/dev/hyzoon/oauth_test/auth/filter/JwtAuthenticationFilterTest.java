@@ -0,0 +1,85 @@
+package dev.hyzoon.oauth_test.auth.filter;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.Base64;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtAuthenticationFilterTest {
+
+    private static final Key KEY = Keys.hmacShaKeyFor(
+            "test-secret-key-for-hs512-signature-must-be-at-least-64-bytes-long!!".getBytes(StandardCharsets.UTF_8));
+
+    private static String validToken() {
+        return Jwts.builder()
+                .setSubject("user@example.com")
+                .claim("auth", "ROLE_USER")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(KEY, SignatureAlgorithm.HS512)
+                .compact();
+    }
+
+    private static String encode(String json) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void acceptsHs512Token() {
+        assertThat(JwtAuthenticationFilter.isWellFormed(validToken())).isTrue();
+    }
+
+    @Test
+    void rejectsWrongSegmentCount() {
+        String token = validToken();
+        String[] parts = token.split("\\.");
+
+        assertThat(JwtAuthenticationFilter.isWellFormed(parts[0] + "." + parts[1] + parts[2])).isFalse();
+        assertThat(JwtAuthenticationFilter.isWellFormed(token + ".abc")).isFalse();
+        assertThat(JwtAuthenticationFilter.isWellFormed("." + parts[1] + "." + parts[2])).isFalse();
+        assertThat(JwtAuthenticationFilter.isWellFormed(parts[0] + ".." + parts[2])).isFalse();
+    }
+
+    @Test
+    void rejectsCharactersOutsideBase64UrlAlphabet() {
+        String token = validToken();
+
+        assertThat(JwtAuthenticationFilter.isWellFormed(token.substring(0, 20) + "+" + token.substring(21))).isFalse();
+        assertThat(JwtAuthenticationFilter.isWellFormed(token.substring(0, 20) + "/" + token.substring(21))).isFalse();
+        assertThat(JwtAuthenticationFilter.isWellFormed(token + "=")).isFalse();
+        assertThat(JwtAuthenticationFilter.isWellFormed(token.substring(0, 20) + " " + token.substring(21))).isFalse();
+    }
+
+    @Test
+    void rejectsOtherAlgorithms() {
+        String token = validToken();
+        String rest = token.substring(token.indexOf('.'));
+
+        assertThat(JwtAuthenticationFilter.isWellFormed(encode("{\"alg\":\"none\"}") + rest)).isFalse();
+        assertThat(JwtAuthenticationFilter.isWellFormed(encode("{\"alg\":\"HS256\"}") + rest)).isFalse();
+        assertThat(JwtAuthenticationFilter.isWellFormed(encode("{\"alg\":\"HS512\"}") + rest)).isTrue();
+    }
+
+    @Test
+    void rejectsSignatureOfWrongLength() {
+        String token = validToken();
+
+        assertThat(JwtAuthenticationFilter.isWellFormed(token.substring(0, token.length() - 1))).isFalse();
+        assertThat(JwtAuthenticationFilter.isWellFormed(token + "A")).isFalse();
+        // HS256 서명 길이 (43자)
+        assertThat(JwtAuthenticationFilter.isWellFormed(token.substring(0, token.length() - 43))).isFalse();
+    }
+
+    @Test
+    void rejectsTokensOutsideLengthBounds() {
+        assertThat(JwtAuthenticationFilter.isWellFormed("")).isFalse();
+        assertThat(JwtAuthenticationFilter.isWellFormed("a.b.c")).isFalse();
+        assertThat(JwtAuthenticationFilter.isWellFormed("A".repeat(5000))).isFalse();
+    }
+}
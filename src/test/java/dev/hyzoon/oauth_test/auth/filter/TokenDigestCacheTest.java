@@ -0,0 +1,51 @@
+package dev.hyzoon.oauth_test.auth.filter;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenDigestCacheTest {
+
+    @Test
+    void emptyCacheNeverReportsHit() {
+        TokenDigestCache cache = new TokenDigestCache(16);
+
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(cache.contains("token-" + i)).isFalse();
+        }
+    }
+
+    @Test
+    void digestNeverCollidesWithEmptySlotMarker() {
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(TokenDigestCache.digest("token-" + i)).isNotZero();
+        }
+    }
+
+    @Test
+    void reportsAddedToken() {
+        TokenDigestCache cache = new TokenDigestCache(16);
+
+        cache.add("rejected-token");
+
+        assertThat(cache.contains("rejected-token")).isTrue();
+        assertThat(cache.contains("other-token")).isFalse();
+    }
+
+    @Test
+    void overwrittenSlotForgetsPreviousToken() {
+        TokenDigestCache cache = new TokenDigestCache(1);
+
+        cache.add("first");
+        cache.add("second");
+
+        assertThat(cache.contains("first")).isFalse();
+        assertThat(cache.contains("second")).isTrue();
+    }
+
+    @Test
+    void rejectsCapacityThatIsNotPowerOfTwo() {
+        assertThatThrownBy(() -> new TokenDigestCache(100)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,139 @@
+package dev.hyzoon.oauth_test.global.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DataSourceRoutingConfigTest {
+
+    private static final Binder HIKARI_BINDER = new Binder(new MapConfigurationPropertySource(Map.of(
+            "spring.datasource.hikari.maximum-pool-size", "30",
+            "spring.datasource.hikari.connection-timeout", "1500",
+            "spring.datasource.hikari.pool-name", "ignored"
+    )));
+
+    @Test
+    void primaryPool_usesSpringDatasourceHikariSettings() {
+        HikariDataSource primary = DataSourceRoutingConfig.primaryDataSource(dataSourceProperties(), HIKARI_BINDER);
+
+        assertThat(primary.getJdbcUrl()).isEqualTo("jdbc:mysql://primary:3306/oauth-test");
+        assertThat(primary.getMaximumPoolSize()).isEqualTo(30);
+        assertThat(primary.getConnectionTimeout()).isEqualTo(1500);
+        assertThat(primary.getPoolName()).isEqualTo("primary");
+        primary.close();
+    }
+
+    @Test
+    void replicaPool_inheritsHikariSettingsAndOverridesPoolSize() {
+        DataSourceRoutingProperties.Replica replica = new DataSourceRoutingProperties.Replica();
+        replica.setUrl("jdbc:mysql://replica:3306/oauth-test");
+        replica.setMaximumPoolSize(10);
+
+        HikariDataSource replicaDataSource =
+                DataSourceRoutingConfig.replicaDataSource(dataSourceProperties(), HIKARI_BINDER, replica, 1);
+
+        assertThat(replicaDataSource.getJdbcUrl()).isEqualTo("jdbc:mysql://replica:3306/oauth-test");
+        assertThat(replicaDataSource.getUsername()).isEqualTo("root");
+        assertThat(replicaDataSource.getMaximumPoolSize()).isEqualTo(10);
+        assertThat(replicaDataSource.getConnectionTimeout()).isEqualTo(1500);
+        assertThat(replicaDataSource.getPoolName()).isEqualTo("replica-1");
+        assertThat(replicaDataSource.isReadOnly()).isTrue();
+        replicaDataSource.close();
+    }
+
+    @Test
+    void readOnlyTransactions_useReplicas_andOtherTransactionsUsePrimary() throws SQLException {
+        Connection primaryConnection = mock(Connection.class);
+        Connection firstReplicaConnection = mock(Connection.class);
+        Connection secondReplicaConnection = mock(Connection.class);
+        DataSource routed = DataSourceRoutingConfig.routingDataSource(
+                dataSource(primaryConnection),
+                List.of(dataSource(firstReplicaConnection), dataSource(secondReplicaConnection)));
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(routed));
+
+        // read-only 트랜잭션은 replica 를 round-robin 으로 사용
+        transactionTemplate.setReadOnly(true);
+        transactionTemplate.executeWithoutResult(status -> query(routed));
+        transactionTemplate.executeWithoutResult(status -> query(routed));
+        transactionTemplate.executeWithoutResult(status -> query(routed));
+
+        verify(firstReplicaConnection, times(2)).createStatement();
+        verify(secondReplicaConnection, times(1)).createStatement();
+        verify(primaryConnection, never()).createStatement();
+
+        transactionTemplate.setReadOnly(false);
+        transactionTemplate.executeWithoutResult(status -> query(routed));
+
+        verify(primaryConnection, times(1)).createStatement();
+        verify(firstReplicaConnection, times(2)).createStatement();
+        verify(secondReplicaConnection, times(1)).createStatement();
+    }
+
+    @Test
+    void withoutReplicas_everyTransactionUsesPrimary() throws SQLException {
+        Connection primaryConnection = mock(Connection.class);
+        DataSource routed = DataSourceRoutingConfig.routingDataSource(dataSource(primaryConnection), List.of());
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(routed));
+
+        transactionTemplate.setReadOnly(true);
+        transactionTemplate.executeWithoutResult(status -> query(routed));
+
+        verify(primaryConnection).createStatement();
+    }
+
+    @Test
+    void routingRequiresOpenInViewDisabled() {
+        assertThatThrownBy(() -> DataSourceRoutingConfig.checkOpenInViewDisabled(new MockEnvironment()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("spring.jpa.open-in-view=false");
+        assertThatThrownBy(() -> DataSourceRoutingConfig.checkOpenInViewDisabled(
+                new MockEnvironment().withProperty("spring.jpa.open-in-view", "true")))
+                .isInstanceOf(IllegalStateException.class);
+
+        DataSourceRoutingConfig.checkOpenInViewDisabled(new MockEnvironment().withProperty("spring.jpa.open-in-view", "false"));
+    }
+
+    private static DataSourceProperties dataSourceProperties() {
+        DataSourceProperties properties = new DataSourceProperties();
+        properties.setUrl("jdbc:mysql://primary:3306/oauth-test");
+        properties.setUsername("root");
+        properties.setPassword("1234");
+        return properties;
+    }
+
+    private static DataSource dataSource(Connection connection) throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        return dataSource;
+    }
+
+    // 트랜잭션에 묶인 (lazy) connection 으로 query 실행 -> 이 시점에 실제 DataSource 가 선택됨
+    private static void query(DataSource dataSource) {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            connection.createStatement();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
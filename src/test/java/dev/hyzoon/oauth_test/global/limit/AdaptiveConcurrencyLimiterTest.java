@@ -0,0 +1,102 @@
+package dev.hyzoon.oauth_test.global.limit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final int CLIENTS = 64;
+
+    @Test
+    void rejectsRequestsOverCapacityRatio() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 5, 100);
+
+        for (int i = 0; i < 8; i++) {
+            assertThat(limiter.tryAcquire(0.8)).isTrue();
+        }
+        // 낮은 우선순위 요청은 한도의 80% 에서 거절되지만, 우선순위가 높은 요청은 남은 여유분을 사용
+        assertThat(limiter.tryAcquire(0.8)).isFalse();
+        assertThat(limiter.tryAcquire(1.0)).isTrue();
+        assertThat(limiter.tryAcquire(1.0)).isTrue();
+        assertThat(limiter.tryAcquire(1.0)).isFalse();
+        assertThat(limiter.getInFlight()).isEqualTo(10);
+    }
+
+    // 여러 client 가 동시에 요청하는 중 downstream (Redis / MySQL) 응답 시간이 늘어나면 한도가 줄어들고, 회복되면 다시 늘어나야 함
+    // 실제 thread / sleep 대신 한 round 마다 client 수만큼 acquire 후 지정한 응답 시간으로 release 하여 결과가 항상 같도록
+    @Test
+    void limitShrinksAsLatencyRisesAndRecovers() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 5, 200);
+
+        // 정상 응답 시간: 동시 요청 수에 맞춰 한도가 늘어나되, 한도의 절반도 사용하지 않으면 더 늘리지 않음
+        runRounds(limiter, CLIENTS, 1, 50);
+        int healthyLimit = limiter.getLimit();
+        assertThat(healthyLimit).isBetween(CLIENTS, CLIENTS * 2);
+
+        // 응답 시간 20배 증가
+        runRounds(limiter, CLIENTS, 20, 20);
+        assertThat(limiter.getLimit()).isLessThanOrEqualTo(healthyLimit / 2).isGreaterThanOrEqualTo(5);
+
+        // 응답 시간 회복
+        runRounds(limiter, CLIENTS, 1, 200);
+        assertThat(limiter.getLimit()).isGreaterThanOrEqualTo(CLIENTS);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    // client 수가 한도의 절반보다 적어도 응답 시간이 늘어나면 한도는 줄어들어야 함 (늘어나지만 않아야 함)
+    @Test
+    void limitShrinksWithFewClientsButDoesNotGrow() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(100, 5, 200);
+
+        runRounds(limiter, 10, 1, 50);
+        assertThat(limiter.getLimit()).isEqualTo(100);
+
+        runRounds(limiter, 10, 20, 20);
+        assertThat(limiter.getLimit()).isLessThan(50);
+    }
+
+    @Test
+    void limitStaysWithinBounds() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 5, 30);
+
+        // 한도까지 채운 상태에서 빠른 응답이 이어지면 최대값까지만 증가
+        for (int round = 0; round < 200; round++) {
+            int acquired = 0;
+            while (limiter.tryAcquire(1.0)) {
+                acquired++;
+            }
+            for (int i = 0; i < acquired; i++) {
+                limiter.release(TimeUnit.MILLISECONDS.toNanos(1));
+            }
+        }
+        assertThat(limiter.getLimit()).isEqualTo(30);
+
+        // 응답 시간이 크게 늘어나면 최소값까지만 감소
+        for (int round = 0; round < 30; round++) {
+            int acquired = 0;
+            while (limiter.tryAcquire(1.0)) {
+                acquired++;
+            }
+            for (int i = 0; i < acquired; i++) {
+                limiter.release(TimeUnit.MILLISECONDS.toNanos(500));
+            }
+        }
+        assertThat(limiter.getLimit()).isEqualTo(5);
+    }
+
+    // round 마다 최대 clients 개의 요청을 동시에 처리 중인 상태로 만든 뒤 모두 rttMillis 로 완료
+    private static void runRounds(AdaptiveConcurrencyLimiter limiter, int clients, long rttMillis, int rounds) {
+        for (int round = 0; round < rounds; round++) {
+            int acquired = 0;
+            while (acquired < clients && limiter.tryAcquire(1.0)) {
+                acquired++;
+            }
+            for (int i = 0; i < acquired; i++) {
+                limiter.release(TimeUnit.MILLISECONDS.toNanos(rttMillis));
+            }
+        }
+    }
+}
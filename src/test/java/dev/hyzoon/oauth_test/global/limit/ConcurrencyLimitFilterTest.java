@@ -0,0 +1,159 @@
+package dev.hyzoon.oauth_test.global.limit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrencyLimitFilterTest {
+
+    private static final String ALLOWED_ORIGIN = "http://localhost:3000";
+
+    private AdaptiveConcurrencyLimiter limiter;
+    private SimpleMeterRegistry meterRegistry;
+    private ConcurrencyLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        // SecurityConfig.corsConfigurationSource 와 같은 설정
+        CorsConfiguration configuration = new CorsConfiguration();
+        configuration.setAllowedOrigins(List.of(ALLOWED_ORIGIN));
+        configuration.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS"));
+        configuration.setAllowedHeaders(List.of("*"));
+        configuration.setExposedHeaders(List.of("X-Access-Token", HttpHeaders.RETRY_AFTER));
+        configuration.setAllowCredentials(true);
+        UrlBasedCorsConfigurationSource corsConfigurationSource = new UrlBasedCorsConfigurationSource();
+        corsConfigurationSource.registerCorsConfiguration("/**", configuration);
+
+        limiter = new AdaptiveConcurrencyLimiter(10, 5, 100);
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new ConcurrencyLimitFilter(limiter, corsConfigurationSource, meterRegistry);
+    }
+
+    @Test
+    void requestUnderLimit_passesAndReleasesPermit() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request("POST", "/api/v1/auth/refresh"), new MockHttpServletResponse(), chain);
+
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void authRoutes_areRejectedAtEightyPercentOfLimit() throws Exception {
+        occupy(8);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request("POST", "/api/v1/auth/refresh"), response, chain);
+
+        assertThat(chain.getRequest()).isNull();
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(response.getContentAsString()).contains("Too many concurrent requests");
+        assertThat(limiter.getInFlight()).isEqualTo(8);
+        assertThat(meterRegistry.get("auth.concurrency.rejected").tag("class", "auth").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void oauth2Callback_isTreatedAsAuthRoute() throws Exception {
+        occupy(8);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request("GET", "/login/oauth2/code/github"), response, new MockFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(503);
+    }
+
+    @Test
+    void priorityRoute_usesFullLimit() throws Exception {
+        occupy(8);
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request("GET", "/api/v1/user/me"), new MockHttpServletResponse(), chain);
+        assertThat(chain.getRequest()).isNotNull();
+
+        occupy(2);
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        filter.doFilter(request("GET", "/api/v1/user/me"), rejected, new MockFilterChain());
+
+        assertThat(rejected.getStatus()).isEqualTo(503);
+        assertThat(meterRegistry.get("auth.concurrency.rejected").tag("class", "priority").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void unlimitedRoute_passesEvenWhenFull() throws Exception {
+        occupy(10);
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request("GET", "/api/v1/admin/users"), new MockHttpServletResponse(), chain);
+
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(limiter.getInFlight()).isEqualTo(10);
+    }
+
+    @Test
+    void rejection_carriesCorsHeadersForAllowedOrigin() throws Exception {
+        occupy(8);
+        MockHttpServletRequest request = request("POST", "/api/v1/auth/refresh");
+        request.addHeader(HttpHeaders.ORIGIN, ALLOWED_ORIGIN);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN)).isEqualTo(ALLOWED_ORIGIN);
+        assertThat(response.getHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_CREDENTIALS)).isEqualTo("true");
+        assertThat(response.getHeader(HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS)).contains(HttpHeaders.RETRY_AFTER);
+    }
+
+    @Test
+    void rejection_forDisallowedOrigin_isForbiddenWithoutCorsHeaders() throws Exception {
+        occupy(8);
+        MockHttpServletRequest request = request("POST", "/api/v1/auth/refresh");
+        request.addHeader(HttpHeaders.ORIGIN, "http://evil.example.com");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(403);
+        assertThat(response.getHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN)).isNull();
+    }
+
+    @Test
+    void preflight_bypassesLimiter() throws Exception {
+        occupy(10);
+        MockHttpServletRequest request = request("OPTIONS", "/api/v1/auth/refresh");
+        request.addHeader(HttpHeaders.ORIGIN, ALLOWED_ORIGIN);
+        request.addHeader(HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD, "POST");
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // preflight 는 Security 의 CORS 처리로 전달
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(limiter.getInFlight()).isEqualTo(10);
+    }
+
+    private void occupy(int permits) {
+        for (int i = 0; i < permits; i++) {
+            assertThat(limiter.tryAcquire(1.0)).isTrue();
+        }
+    }
+
+    private static MockHttpServletRequest request(String method, String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setServletPath(path);
+        return request;
+    }
+}
@@ -0,0 +1,143 @@
+package dev.hyzoon.oauth_test.oauth;
+
+import com.sun.net.httpserver.HttpServer;
+import dev.hyzoon.oauth_test.global.config.GithubProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 실제 HTTP 서버로 GitHub `/user/emails` 를 흉내내어 응답 파싱, timeout, Redis 장애 시 동작을 확인
+class GithubEmailResolverTest {
+
+    private static final long TIMEOUT = 300;
+
+    private HttpServer stubProvider;
+    private final AtomicReference<String> responseBody = new AtomicReference<>("[]");
+    private final AtomicReference<String> receivedAuthorization = new AtomicReference<>();
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private volatile long responseDelay;
+
+    private RedisTemplate<String, String> redisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private GithubEmailResolver resolver;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws IOException {
+        stubProvider = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stubProvider.createContext("/user/emails", exchange -> {
+            requestCount.incrementAndGet();
+            receivedAuthorization.set(exchange.getRequestHeaders().getFirst("Authorization"));
+            try {
+                Thread.sleep(responseDelay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = responseBody.get().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            try {
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            } catch (IOException e) {
+                // client 가 timeout 으로 연결을 끊은 경우
+            }
+        });
+        stubProvider.start();
+
+        GithubProperties properties = new GithubProperties();
+        properties.setEmailsUri("http://127.0.0.1:" + stubProvider.getAddress().getPort() + "/user/emails");
+        properties.setEmailTimeout(TIMEOUT);
+
+        redisTemplate = mock(RedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        resolver = new GithubEmailResolver(redisTemplate, properties, RestClient.builder());
+    }
+
+    @AfterEach
+    void tearDown() {
+        stubProvider.stop(0);
+    }
+
+    @Test
+    void resolvesPrimaryVerifiedEmailAndCachesIt() {
+        responseBody.set("""
+                [
+                  {"email": "secondary@example.com", "primary": false, "verified": true},
+                  {"email": "unverified@example.com", "primary": true, "verified": false},
+                  {"email": "primary@example.com", "primary": true, "verified": true, "visibility": null}
+                ]
+                """);
+
+        String email = resolver.resolvePrimaryEmail("12345", "gho_token");
+
+        assertThat(email).isEqualTo("primary@example.com");
+        assertThat(receivedAuthorization.get()).isEqualTo("Bearer gho_token");
+        verify(valueOperations).set(eq("github_email:12345"), eq("primary@example.com"), anyLong(), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void returnsCachedEmailWithoutCallingProvider() {
+        when(valueOperations.get("github_email:12345")).thenReturn("cached@example.com");
+
+        assertThat(resolver.resolvePrimaryEmail("12345", "gho_token")).isEqualTo("cached@example.com");
+        assertThat(requestCount.get()).isZero();
+    }
+
+    @Test
+    void returnsNullWhenNoPrimaryVerifiedEmail() {
+        responseBody.set("[{\"email\": \"a@example.com\", \"primary\": false, \"verified\": true}]");
+
+        assertThat(resolver.resolvePrimaryEmail("12345", "gho_token")).isNull();
+        verify(valueOperations, never()).set(anyString(), anyString(), anyLong(), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void returnsNullWithinTimeoutWhenProviderIsSlow() {
+        responseDelay = TIMEOUT * 5;
+        responseBody.set("[{\"email\": \"slow@example.com\", \"primary\": true, \"verified\": true}]");
+
+        long start = System.nanoTime();
+        String email = resolver.resolvePrimaryEmail("12345", "gho_token");
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertThat(email).isNull();
+        // connect + read timeout 의 합이 TIMEOUT (응답 헤더가 오지 않으므로 read timeout 1회로 끝남)
+        assertThat(elapsedMillis).isLessThan(TIMEOUT * 2);
+    }
+
+    @Test
+    void fallsBackToProviderWhenRedisIsUnavailable() {
+        when(valueOperations.get(anyString())).thenThrow(new RedisConnectionFailureException("down"));
+        doThrow(new RedisConnectionFailureException("down"))
+                .when(valueOperations).set(anyString(), anyString(), anyLong(), eq(TimeUnit.MILLISECONDS));
+        responseBody.set("[{\"email\": \"primary@example.com\", \"primary\": true, \"verified\": true}]");
+
+        assertThat(resolver.resolvePrimaryEmail("12345", "gho_token")).isEqualTo("primary@example.com");
+    }
+}
@@ -0,0 +1,124 @@
+package dev.hyzoon.oauth_test.oauth;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.config.oauth2.client.CommonOAuth2Provider;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.client.registration.InMemoryClientRegistrationRepository;
+import org.springframework.security.oauth2.client.web.OAuth2AuthorizationRequestRedirectFilter;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 인가 요청을 만든 서버(A)와 GitHub callback 을 받는 서버(B)가 다른 경우를 재현
+// 두 repository 는 같은 Redis(공유 map)만 바라보며, 어느 쪽에서도 HttpSession 이 생성되지 않아야 함
+class RedisOAuth2AuthorizationRequestRepositoryTest {
+
+    private final Map<String, String> sharedRedis = new ConcurrentHashMap<>();
+
+    private final ClientRegistration github = CommonOAuth2Provider.GITHUB.getBuilder("github")
+            .clientId("client-id")
+            .clientSecret("client-secret")
+            .build();
+
+    @Test
+    void callbackOnAnotherInstanceRestoresAuthorizationRequestWithoutSession() throws Exception {
+        RedisOAuth2AuthorizationRequestRepository instanceA = new RedisOAuth2AuthorizationRequestRepository(redisTemplate());
+        RedisOAuth2AuthorizationRequestRepository instanceB = new RedisOAuth2AuthorizationRequestRepository(redisTemplate());
+
+        // 서버 A: /oauth2/authorization/github 요청 -> GitHub 로 redirect
+        OAuth2AuthorizationRequestRedirectFilter redirectFilter =
+                new OAuth2AuthorizationRequestRedirectFilter(new InMemoryClientRegistrationRepository(github));
+        redirectFilter.setAuthorizationRequestRepository(instanceA);
+
+        MockHttpServletRequest authorizationRequest = new MockHttpServletRequest("GET", "/oauth2/authorization/github");
+        authorizationRequest.setServletPath("/oauth2/authorization/github");
+        MockHttpServletResponse authorizationResponse = new MockHttpServletResponse();
+        redirectFilter.doFilter(authorizationRequest, authorizationResponse, new MockFilterChain());
+
+        String redirectUrl = authorizationResponse.getRedirectedUrl();
+        assertThat(redirectUrl).startsWith("https://github.com/login/oauth/authorize");
+        String state = URLDecoder.decode(
+                UriComponentsBuilder.fromUriString(redirectUrl).build().getQueryParams().getFirst("state"),
+                StandardCharsets.UTF_8);
+        assertThat(authorizationRequest.getSession(false)).isNull();
+
+        // 서버 B: GitHub callback (/login/oauth2/code/github?code=...&state=...)
+        MockHttpServletRequest callback = new MockHttpServletRequest("GET", "/login/oauth2/code/github");
+        callback.setParameter("code", "authorization-code");
+        callback.setParameter("state", state);
+
+        OAuth2AuthorizationRequest loaded = instanceB.loadAuthorizationRequest(callback);
+        assertThat(loaded).isNotNull();
+        assertThat(loaded.getState()).isEqualTo(state);
+        assertThat(loaded.getClientId()).isEqualTo("client-id");
+        assertThat(loaded.getRedirectUri()).endsWith("/login/oauth2/code/github");
+
+        OAuth2AuthorizationRequest removed = instanceB.removeAuthorizationRequest(callback, new MockHttpServletResponse());
+        assertThat(removed).isNotNull();
+        assertThat(removed.getState()).isEqualTo(state);
+        assertThat(callback.getSession(false)).isNull();
+
+        // 같은 state 로 callback 을 재사용할 수 없음 (어느 서버에서도)
+        assertThat(instanceA.removeAuthorizationRequest(callback, new MockHttpServletResponse())).isNull();
+        assertThat(instanceB.loadAuthorizationRequest(callback)).isNull();
+        assertThat(sharedRedis).isEmpty();
+    }
+
+    @Test
+    void unknownOrMissingStateReturnsNull() {
+        RedisOAuth2AuthorizationRequestRepository repository = new RedisOAuth2AuthorizationRequestRepository(redisTemplate());
+
+        MockHttpServletRequest withoutState = new MockHttpServletRequest("GET", "/login/oauth2/code/github");
+        assertThat(repository.loadAuthorizationRequest(withoutState)).isNull();
+
+        MockHttpServletRequest unknownState = new MockHttpServletRequest("GET", "/login/oauth2/code/github");
+        unknownState.setParameter("state", "unknown");
+        assertThat(repository.removeAuthorizationRequest(unknownState, new MockHttpServletResponse())).isNull();
+    }
+
+    @Test
+    void corruptedEntryIsTreatedAsMissing() {
+        sharedRedis.put("oauth2_auth_request:broken", "not-base64!");
+        RedisOAuth2AuthorizationRequestRepository repository = new RedisOAuth2AuthorizationRequestRepository(redisTemplate());
+
+        MockHttpServletRequest callback = new MockHttpServletRequest("GET", "/login/oauth2/code/github");
+        callback.setParameter("state", "broken");
+
+        assertThat(repository.loadAuthorizationRequest(callback)).isNull();
+    }
+
+    // 서버마다 별도의 RedisTemplate 을 사용하지만 저장소는 하나인 Redis 를 흉내냄
+    @SuppressWarnings("unchecked")
+    private RedisTemplate<String, String> redisTemplate() {
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        doAnswer(invocation -> {
+            sharedRedis.put(invocation.getArgument(0), invocation.getArgument(1));
+            return null;
+        }).when(valueOperations).set(anyString(), anyString(), anyLong(), any());
+        when(valueOperations.get(anyString()))
+                .thenAnswer(invocation -> sharedRedis.get(invocation.<String>getArgument(0)));
+        when(valueOperations.getAndDelete(anyString()))
+                .thenAnswer(invocation -> sharedRedis.remove(invocation.<String>getArgument(0)));
+        return redisTemplate;
+    }
+}
@@ -0,0 +1,48 @@
+package dev.hyzoon.oauth_test.user;
+
+import dev.hyzoon.oauth_test.OauthTestApplication;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserImportCommandTest {
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void importRun_startsWithoutWebServerWarmupOrScheduler() {
+        SpringApplication application = new SpringApplication(OauthTestApplication.class);
+
+        UserImportCommand.configure(application, new String[]{"--import-users=users.csv"});
+
+        assertThat(application.getWebApplicationType()).isEqualTo(WebApplicationType.NONE);
+
+        // application.yml 의 warmup.enabled=true 보다 우선 적용되어야 함
+        GenericApplicationContext context = new GenericApplicationContext();
+        context.getEnvironment().getPropertySources().addLast(
+                new MapPropertySource("application.yml", Map.of("warmup.enabled", true)));
+        for (ApplicationContextInitializer initializer : application.getInitializers()) {
+            initializer.initialize((ConfigurableApplicationContext) context);
+        }
+        assertThat(context.getEnvironment().getProperty("warmup.enabled", Boolean.class)).isFalse();
+        assertThat(context.getEnvironment().getProperty("scheduling.enabled", Boolean.class)).isFalse();
+    }
+
+    @Test
+    void normalRun_isLeftUnchanged() {
+        SpringApplication application = new SpringApplication(OauthTestApplication.class);
+        int initializers = application.getInitializers().size();
+
+        UserImportCommand.configure(application, new String[]{"--server.port=8081"});
+
+        assertThat(application.getWebApplicationType()).isEqualTo(WebApplicationType.SERVLET);
+        assertThat(application.getInitializers()).hasSize(initializers);
+    }
+}
@@ -0,0 +1,118 @@
+package dev.hyzoon.oauth_test.user;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.hyzoon.oauth_test.global.datasource.RecentUserWriteTracker;
+import dev.hyzoon.oauth_test.global.exception.InvalidImportFileException;
+import dev.hyzoon.oauth_test.user.dto.UserImportReportDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.StringReader;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserImportServiceTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private RecentUserWriteTracker recentUserWriteTracker;
+    private UserImportService userImportService;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+            List<?> args = invocation.getArgument(1);
+            return new int[args.size()];
+        });
+        recentUserWriteTracker = mock(RecentUserWriteTracker.class);
+        userImportService = new UserImportService(jdbcTemplate, new ObjectMapper(), recentUserWriteTracker);
+    }
+
+    @Test
+    void parseCsvLine_splitsPlainValuesAndKeepsEmptyFields() {
+        assertThat(UserImportService.parseCsvLine("a@example.com,,ADMIN,"))
+                .containsExactly("a@example.com", "", "ADMIN", "");
+    }
+
+    @Test
+    void parseCsvLine_keepsCommasInsideQuotesAndUnescapesDoubledQuotes() {
+        assertThat(UserImportService.parseCsvLine("a@example.com,\"Kim, \"\"Jay\"\"\",USER"))
+                .containsExactly("a@example.com", "Kim, \"Jay\"", "USER");
+    }
+
+    @Test
+    void parseCsvLine_rejectsUnterminatedQuote() {
+        assertThatThrownBy(() -> UserImportService.parseCsvLine("a@example.com,\"Kim"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("unterminated");
+    }
+
+    // 파일 자체가 잘못된 경우 관리자 API 에서 400 으로 응답하도록 InvalidImportFileException 으로 거절
+    @Test
+    void importUsers_rejectsCsvHeaderWithoutEmailColumn() {
+        assertThatThrownBy(() -> userImportService.importUsers(
+                new StringReader("name,role\nkim,USER\n"), UserImportService.Format.CSV))
+                .isInstanceOf(InvalidImportFileException.class)
+                .hasMessageContaining("email");
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    void importUsers_rowWithoutRoleOrName_neverOverwritesThemOnConflict() throws Exception {
+        UserImportReportDto report = userImportService.importUsers(
+                new StringReader("email,name,role\nadmin@example.com,,\n"), UserImportService.Format.CSV);
+
+        assertThat(report.getUpserted()).isEqualTo(1);
+        List<Object[]> args = captureBatch(sql -> assertThat(sql)
+                .doesNotContain("role = VALUES(role)")
+                .doesNotContain("name = VALUES(name)"));
+        // 기본값은 새 사용자 INSERT 에만 사용됨
+        assertThat(args.get(0)).startsWith("admin@example.com", "admin", null, "GUEST");
+    }
+
+    @Test
+    void importUsers_suppliedColumnsAreUpdatedOnConflict() throws Exception {
+        userImportService.importUsers(
+                new StringReader("{\"email\":\"a@example.com\",\"name\":\"Alice\",\"role\":\"ROLE_ADMIN\"}\n"),
+                UserImportService.Format.NDJSON);
+
+        List<Object[]> args = captureBatch(sql -> assertThat(sql)
+                .contains("role = VALUES(role)")
+                .contains("name = VALUES(name)"));
+        assertThat(args.get(0)).startsWith("a@example.com", "Alice", null, "ADMIN");
+    }
+
+    @Test
+    void importUsers_invalidRowsAreReportedWithoutStoppingTheImport() throws Exception {
+        UserImportReportDto report = userImportService.importUsers(
+                new StringReader("email,role\nnot-an-email,USER\nb@example.com,OWNER\nc@example.com,USER\n"),
+                UserImportService.Format.CSV);
+
+        assertThat(report.getProcessed()).isEqualTo(3);
+        assertThat(report.getUpserted()).isEqualTo(1);
+        assertThat(report.getFailed()).isEqualTo(2);
+        assertThat(report.getErrors()).extracting(UserImportReportDto.RowError::getLine).containsExactly(2L, 3L);
+        // 저장된 사용자만 primary 조회 대상으로 기록
+        verify(recentUserWriteTracker).markWritten(List.of("c@example.com"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object[]> captureBatch(Consumer<String> sqlAssertion) {
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<List<Object[]>> args = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(sql.capture(), args.capture());
+        sqlAssertion.accept(sql.getValue());
+        return args.getValue();
+    }
+}